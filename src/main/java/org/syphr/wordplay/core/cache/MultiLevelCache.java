@@ -52,14 +52,7 @@ public class MultiLevelCache<K, V>
     /**
      * The loader that generates a new value on a cache miss.
      */
-    private final Callable<V> loader;
-
-    /**
-     * The list of keys used in the current get operation. This is required to allow
-     * the loader to process the keys without creating a new loader on every cache
-     * miss.
-     */
-    private final List<K> keys = new ArrayList<>();
+    private final MultiLevelCacheLoader<K, V> loader;
 
     public MultiLevelCache(final CacheBuilder<Object, Object> builder, final MultiLevelCacheLoader<K, V> loader)
     {
@@ -74,14 +67,7 @@ public class MultiLevelCache<K, V>
             }
         };
 
-        this.loader = new Callable<>()
-        {
-            @Override
-            public V call() throws Exception
-            {
-                return loader.load(keys);
-            }
-        };
+        this.loader = loader;
     }
 
     /**
@@ -96,33 +82,30 @@ public class MultiLevelCache<K, V>
      */
     @SafeVarargs
     @SuppressWarnings("unchecked")
-    public final synchronized V get(K... keys) throws ExecutionException
+    public final V get(K... keys) throws ExecutionException
     {
         /*
-         * Clear the keys list and initialize the first level cache.
+         * The caches are thread safe on their own, so no lock is held here. Holding a
+         * monitor would also pin virtual threads while a value loads.
          */
-        this.keys.clear();
         Cache<Object, Object> nestedCache = cache;
 
         /*
          * Iterate over each key except the last to retrieve each nested cache level,
          * building new caches as necessary.
          */
+        List<K> keyList = new ArrayList<>(keys.length);
         int i = 0;
         for (; i < keys.length - 1; i++) {
-            K key = keys[i];
-            this.keys.add(key);
-
-            nestedCache = (Cache<Object, Object>) nestedCache.get(key, builder);
+            keyList.add(keys[i]);
+            nestedCache = (Cache<Object, Object>) nestedCache.get(keys[i], builder);
         }
-
-        K key = keys[i];
-        this.keys.add(key);
+        keyList.add(keys[i]);
 
         /*
          * Retrieve or load the value from the innermost cache.
          */
-        return (V) nestedCache.get(key, loader);
+        return (V) nestedCache.get(keys[i], () -> loader.load(keyList));
     }
 
     /**
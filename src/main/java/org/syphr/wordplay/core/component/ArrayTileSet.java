@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.PackedLocation;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A tile set for a board of fixed dimensions that keeps every tile on the board
+ * in a flat array, indexed by <code>x + width * (y + height * z)</code>. The
+ * piece on each tile is also kept in a flat array, so checking whether a
+ * location is occupied is an index calculation and an array read rather than a
+ * hash lookup.
+ * <p>
+ * Tiles on the board are created up front. All locations off the board share a
+ * single empty tile that cannot be changed.
+ *
+ * @author Gregory P. Moyer
+ */
+public class ArrayTileSet implements TileSet
+{
+    @Getter
+    private final Dimension dimension;
+
+    private final TileFactory tileFactory;
+
+    private final Tile[] tiles;
+    private final Piece[] pieces;
+
+    /**
+     * Construct a new tile set.
+     *
+     * @param dimension   the size of the board
+     * @param tileFactory the factory that creates each tile, including its
+     *                    attributes
+     */
+    public ArrayTileSet(@NonNull Dimension dimension, @NonNull TileFactory tileFactory)
+    {
+        this.dimension = dimension;
+        this.tileFactory = tileFactory;
+
+        int size = Math.multiplyExact(Math.multiplyExact(dimension.width(), dimension.height()), dimension.depth());
+        this.tiles = new Tile[size];
+        this.pieces = new Piece[size];
+
+        createTiles();
+    }
+
+    private void createTiles()
+    {
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    int index = indexOf(x, y, z);
+                    tiles[index] = new ArrayTile(index, tileFactory.createTile(Location.at(x, y, z)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(pieces, null);
+        createTiles();
+    }
+
+    @Override
+    public Tile getTile(@NonNull Location location)
+    {
+        int index = indexOf(location);
+        if (index < 0) {
+            return WallTile.INSTANCE;
+        }
+
+        return tiles[index];
+    }
+
+    @Override
+    public boolean hasPiece(@NonNull Location location)
+    {
+        return hasPiece(location.x(), location.y(), location.z());
+    }
+
+    @Override
+    public Tile getTile(long packed)
+    {
+        return getTile(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed));
+    }
+
+    @Override
+    public boolean hasPiece(long packed)
+    {
+        return hasPiece(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed));
+    }
+
+    /**
+     * Retrieve the tile at the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return the tile at the given coordinates
+     */
+    public Tile getTile(int x, int y, int z)
+    {
+        int index = indexOf(x, y, z);
+        if (index < 0) {
+            return WallTile.INSTANCE;
+        }
+
+        return tiles[index];
+    }
+
+    /**
+     * Determine whether or not the tile at the given coordinates is occupied.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return <code>true</code> if a piece occupies the tile; <code>false</code>
+     *         otherwise
+     */
+    public boolean hasPiece(int x, int y, int z)
+    {
+        int index = indexOf(x, y, z);
+        return index >= 0 && pieces[index] != null;
+    }
+
+    /**
+     * Retrieve the index of the given location in this tile set's arrays.
+     *
+     * @param location the location
+     *
+     * @return the index, or <code>-1</code> if the location is off the board
+     */
+    public int indexOf(Location location)
+    {
+        return indexOf(location.x(), location.y(), location.z());
+    }
+
+    /**
+     * Retrieve the index of the given coordinates in this tile set's arrays.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return the index, or <code>-1</code> if the coordinates are off the board
+     */
+    public int indexOf(int x, int y, int z)
+    {
+        if (x < 0 || y < 0 || z < 0 || x >= dimension.width() || y >= dimension.height() || z >= dimension.depth()) {
+            return -1;
+        }
+
+        return x + dimension.width() * (y + dimension.height() * z);
+    }
+
+    @Override
+    public SortedSet<Tile> getOccupiedTiles()
+    {
+        SortedSet<Tile> occupied = new TreeSet<>();
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] != null) {
+                occupied.add(tiles[i]);
+            }
+        }
+
+        return occupied;
+    }
+
+    @Override
+    public Map<Location, List<TileAttribute>> getAttributes(@NonNull Set<Location> locations)
+    {
+        return locations.stream()
+                        .collect(Collectors.toMap(location -> location,
+                                                  location -> List.copyOf(getTile(location).getAttributes())));
+    }
+
+    /**
+     * A tile on the board whose piece is kept in the tile set's piece array. Its
+     * location and attributes are kept by the tile created by the factory.
+     */
+    private class ArrayTile implements Tile
+    {
+        private final int index;
+        private final Tile delegate;
+
+        public ArrayTile(int index, Tile delegate)
+        {
+            this.index = index;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Location getLocation()
+        {
+            return delegate.getLocation();
+        }
+
+        @Override
+        public void setPiece(Piece piece)
+        {
+            pieces[index] = piece;
+        }
+
+        @Override
+        public Optional<Piece> getPiece()
+        {
+            return Optional.ofNullable(pieces[index]);
+        }
+
+        @Override
+        public boolean hasPiece()
+        {
+            return pieces[index] != null;
+        }
+
+        @Override
+        public int getBaseValue()
+        {
+            Piece piece = pieces[index];
+            return piece == null ? 0 : piece.getValue();
+        }
+
+        @Override
+        public void addAttribute(TileAttribute attribute)
+        {
+            delegate.addAttribute(attribute);
+        }
+
+        @Override
+        public void addAttributes(Collection<TileAttribute> attributes)
+        {
+            delegate.addAttributes(attributes);
+        }
+
+        @Override
+        public void removeAttribute(TileAttribute attribute)
+        {
+            delegate.removeAttribute(attribute);
+        }
+
+        @Override
+        public Set<TileAttribute> getAttributes()
+        {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public Set<TileAttribute> viewAttributes()
+        {
+            return delegate.viewAttributes();
+        }
+
+        @Override
+        public int compareTo(Tile o)
+        {
+            return getLocation().compareTo(o.getLocation());
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof ArrayTile other && getLocation().equals(other.getLocation());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return getLocation().hashCode();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "ArrayTile(location=" + getLocation() + ", piece=" + pieces[index] + ")";
+        }
+    }
+}
@@ -92,4 +92,13 @@ public interface Bag
      * @param pieces the pieces to return
      */
     public void returnPieces(Collection<Piece> pieces);
+
+    /**
+     * Retrieve a hash of the pieces in this bag. Bags holding the same letters
+     * have the same hash. The hash is the sum of the
+     * {@link Zobrist#pool(Letter) Zobrist keys} of the pieces.
+     *
+     * @return the hash
+     */
+    public long getHash();
 }
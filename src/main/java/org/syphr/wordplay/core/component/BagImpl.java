@@ -118,6 +118,21 @@ public class BagImpl implements Bag
         }
     }
 
+    /**
+     * The hash is computed from the count of each distinct letter, so its cost
+     * depends on the size of the alphabet rather than the number of pieces.
+     */
+    @Override
+    public long getHash()
+    {
+        long hash = 0L;
+        for (Multiset.Entry<Letter> entry : letters.entrySet()) {
+            hash += entry.getCount() * Zobrist.pool(entry.getElement());
+        }
+
+        return hash;
+    }
+
     private Letter unwrap(Optional<Letter> opt)
     {
         return opt.orElse(null);
@@ -61,6 +61,18 @@ public interface Board
      */
     public int calculatePoints(Placement placement);
 
+    /**
+     * Validate and score the given placement at once. This is equivalent to
+     * calling {@link #isValid(Placement)} followed by
+     * {@link #calculatePoints(Placement)}, but is meant to be cheap enough to call
+     * for every candidate placement a robot considers.
+     *
+     * @param placement the placement to evaluate
+     *
+     * @return the result packed as described by {@link Evaluation}
+     */
+    public long evaluate(Placement placement);
+
     /**
      * Commit the given placement to this board.
      *
@@ -72,8 +84,40 @@ public interface Board
      */
     public int place(Placement placement) throws PlacementException;
 
+    /**
+     * Commit the given placement to this board so that it can be taken back
+     * later with {@link #revert(Undo)}. This is meant for searches that look
+     * ahead by trying placements and taking them back, so the cost of both is in
+     * proportion to the pieces placed rather than the size of the board.
+     *
+     * @param placement the placement to commit
+     *
+     * @return the token to revert the placement with
+     *
+     * @throws PlacementException if the given placement is not valid on this board
+     */
+    public Undo apply(Placement placement) throws PlacementException;
+
+    /**
+     * Take back a placement committed by {@link #apply(Placement)}, restoring the
+     * tiles, cross checks, occupancy and hash to their state before it.
+     * Placements must be reverted in the reverse of the order they were applied.
+     *
+     * @param undo the token returned when the placement was applied
+     *
+     * @throws IllegalStateException if the token is not from this board or is not
+     *                               for the most recently applied placement
+     */
+    public void revert(Undo undo);
+
     /**
      * Retrieve the set of tiles that make up this board.
+     * <p>
+     * The tiles must not be changed directly, such as by setting the piece on a
+     * tile or clearing the set. The {@link #getCrossChecks() cross checks},
+     * {@link #getOccupancy() occupancy} and {@link #getHash() hash} are only kept
+     * up to date by {@link #place(Placement)}, {@link #apply(Placement)} and
+     * {@link #revert(Undo)}, so they would no longer describe the tiles.
      *
      * @return the tile set
      */
@@ -92,4 +136,48 @@ public interface Board
      * @return allowed orientations
      */
     public Set<Orientation> getOrientations();
+
+    /**
+     * Retrieve the letters that may be placed on each empty tile without forming
+     * an invalid word along each orientation. The returned cross checks are kept
+     * up to date as placements are committed to this board.
+     *
+     * @return the cross checks
+     */
+    public CrossChecks getCrossChecks();
+
+    /**
+     * Retrieve the set of occupied tiles, and the tiles next to them, as bits. The
+     * returned occupancy is kept up to date as placements are committed to this
+     * board.
+     *
+     * @return the occupancy
+     */
+    public Occupancy getOccupancy();
+
+    /**
+     * Retrieve a hash of the pieces on this board and where they are. Boards
+     * holding the same letters in the same locations have the same hash, so it
+     * may be used to recognize a position that has been seen before. The hash is
+     * kept up to date as placements are committed and reverted, and is built from
+     * {@link Zobrist#tile(Location, Piece) Zobrist keys}.
+     *
+     * @return the hash
+     */
+    public long getHash();
+
+    /**
+     * Take an immutable copy of this board as it is now. Later placements on this
+     * board do not affect the copy, and the copy rejects placements of its own.
+     * Because it cannot change, the copy may be read by any number of threads at
+     * once, such as the workers of a robot's search or a service offering hints,
+     * while the game continues on this board.
+     * <p>
+     * Only the pieces are copied for each snapshot. The tile attributes are copied
+     * once and shared by every snapshot, so they must not be changed after the
+     * first snapshot is taken.
+     *
+     * @return the snapshot
+     */
+    public Board snapshot();
 }
@@ -15,26 +15,46 @@
  */
 package org.syphr.wordplay.core.component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.lang.Alphabet;
 import org.syphr.wordplay.core.lang.Dictionary;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.lang.WordGraph;
+import org.syphr.wordplay.core.lang.WordGraphs;
 import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Distance;
 import org.syphr.wordplay.core.space.Location;
 import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.PackedLocation;
 
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class BoardImpl implements Board
 {
+    /**
+     * Returned when scoring a line of tiles that is too short to be a word.
+     */
+    private static final int NO_WORD = -1;
+
+    /**
+     * Returned when scoring a line of tiles that is not in the dictionary.
+     */
+    private static final int INVALID_WORD = -2;
+
     private final Dimension dimension;
     private final Set<Orientation> orientations;
     private final Location start;
@@ -43,7 +63,57 @@ public class BoardImpl implements Board
     private final Dictionary dictionary;
     private final ScoreCalculator scoreCalc;
 
-    private TileSet tileset;
+    /**
+     * The orientations as an array, so that walking them does not create an
+     * iterator.
+     */
+    private final Orientation[] orientationArray;
+
+    /**
+     * Whether or not the default word factory and score calculator are in use, in
+     * which case {@link #evaluate(Placement)} can form and score words itself
+     * rather than delegating to them.
+     */
+    private final boolean singlePass;
+
+    /**
+     * The dictionary, if it can be navigated directly, in which case
+     * {@link #evaluate(Placement)} checks words by walking it rather than asking
+     * the dictionary. Any other dictionary has the final say over its own words,
+     * so they are always checked with {@link Dictionary#isValid(String)}.
+     */
+    private final WordGraph dictionaryGraph;
+
+    /**
+     * Guards the lazy creation of the tile set, its layout and its scoring model. A lock is used
+     * rather than a monitor so that virtual threads waiting on it are not pinned.
+     */
+    private final Lock tilesetLock = new ReentrantLock();
+
+    private volatile TileSet tileset;
+
+    /**
+     * The tile attributes shared by every snapshot of this board, copied when the
+     * first snapshot is taken.
+     */
+    private volatile TileLayout layout;
+
+    /**
+     * The tile attributes compiled for {@link #evaluate(Placement)}. It is taken
+     * from the score calculator if that has one, or compiled from the tiles of
+     * this board the first time a placement is evaluated.
+     */
+    private volatile ScoringModel scoringModel;
+    private CrossChecks crossChecks;
+    private Occupancy occupancy;
+
+    /**
+     * The number of placements applied and not yet reverted.
+     */
+    private int applied;
+
+    private boolean hashed;
+    private long hash;
 
     public BoardImpl(Dimension dimension,
                      Set<Orientation> orientations,
@@ -60,6 +130,41 @@ public class BoardImpl implements Board
         this.wordFactory = wordFactory;
         this.dictionary = dictionary;
         this.scoreCalc = scoreCalc;
+
+        this.orientationArray = this.orientations.toArray(new Orientation[0]);
+        this.singlePass = wordFactory != null
+                          && wordFactory.getClass() == WordFactoryImpl.class
+                          && scoreCalc != null
+                          && scoreCalc.getClass() == ScoreCalculatorImpl.class;
+        this.dictionaryGraph = dictionary instanceof WordGraph graph ? graph : null;
+    }
+
+    /**
+     * Construct a board that shares the configuration of the given board, but
+     * reads the given tiles. The cross checks, occupancy and hash of the given
+     * board are copied if it has computed them, so they must describe the same
+     * tiles; anything else is computed by the new board when it is first
+     * requested.
+     *
+     * @param source the board to copy
+     * @param tiles  the tiles of the new board
+     */
+    protected BoardImpl(BoardImpl source, TileSet tiles)
+    {
+        this(source.dimension,
+             source.orientations,
+             source.start,
+             () -> tiles,
+             source.wordFactory,
+             source.dictionary,
+             source.scoreCalc);
+
+        this.tileset = tiles;
+        this.scoringModel = source.scoringModel;
+        this.crossChecks = source.crossChecks != null ? source.crossChecks.copy(tiles) : null;
+        this.occupancy = source.occupancy != null ? source.occupancy.copy(tiles) : null;
+        this.hash = source.hash;
+        this.hashed = source.hashed;
     }
 
     @Override
@@ -83,15 +188,120 @@ public class BoardImpl implements Board
     @Override
     public TileSet getTiles()
     {
-        if (tileset == null) {
-            synchronized (this) {
-                if (tileset == null) {
-                    tileset = tileSetFactory.createTileSet();
+        TileSet result = tileset;
+        if (result == null) {
+            tilesetLock.lock();
+            try {
+                result = tileset;
+                if (result == null) {
+                    result = tileSetFactory.createTileSet();
+                    tileset = result;
+                }
+            } finally {
+                tilesetLock.unlock();
+            }
+        }
+
+        return result;
+    }
+
+    private ScoringModel getScoringModel()
+    {
+        ScoringModel result = scoringModel;
+        if (result == null) {
+            tilesetLock.lock();
+            try {
+                result = scoringModel;
+                if (result == null) {
+                    result = ((ScoreCalculatorImpl) scoreCalc).getModel();
+                    if (result == null) {
+                        result = ScoringModel.of(dimension, getTiles());
+                    }
+                    scoringModel = result;
+                }
+            } finally {
+                tilesetLock.unlock();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Cross checks are only computed once they are first requested, after which
+     * they are updated with each placement.
+     */
+    @Override
+    public CrossChecks getCrossChecks()
+    {
+        if (crossChecks == null) {
+            crossChecks = new CrossChecks(dimension,
+                                          orientations,
+                                          getTiles(),
+                                          WordGraphs.of(dictionary),
+                                          Alphabet.of(dictionary));
+        }
+
+        return crossChecks;
+    }
+
+    /**
+     * Occupancy is computed the first time it is requested, after which it is
+     * updated with each placement.
+     */
+    @Override
+    public Occupancy getOccupancy()
+    {
+        if (occupancy == null) {
+            occupancy = new Occupancy(dimension, orientations, getTiles());
+        }
+
+        return occupancy;
+    }
+
+    /**
+     * The hash is computed from the tiles the first time it is requested, after
+     * which it is updated with each placement.
+     */
+    @Override
+    public long getHash()
+    {
+        if (!hashed) {
+            long computed = 0L;
+            for (Tile tile : getTiles().getOccupiedTiles()) {
+                computed ^= Zobrist.tile(tile.getLocation(), tile.getPiece().orElseThrow());
+            }
+
+            hash = computed;
+            hashed = true;
+        }
+
+        return hash;
+    }
+
+    @Override
+    public Board snapshot()
+    {
+        return new BoardSnapshot(this, new TileSetSnapshot(getLayout(), getTiles()));
+    }
+
+    private TileLayout getLayout()
+    {
+        TileLayout result = layout;
+        if (result == null) {
+            tilesetLock.lock();
+            try {
+                result = layout;
+                if (result == null) {
+                    result = new TileLayout(dimension, getTiles());
+                    layout = result;
                 }
+            } finally {
+                tilesetLock.unlock();
             }
         }
 
-        return tileset;
+        return result;
     }
 
     @Override
@@ -130,6 +340,67 @@ public class BoardImpl implements Board
         return points;
     }
 
+    /**
+     * The placement is checked and scored with {@link #evaluate(Placement)}, and
+     * only the filled locations are recorded in the returned token.
+     */
+    @Override
+    public Undo apply(Placement placement) throws PlacementException
+    {
+        log.trace("Applying placement {}", placement);
+
+        long evaluation = evaluate(placement);
+        if (!Evaluation.isValid(evaluation)) {
+            throw new PlacementException("invalid placement");
+        }
+
+        TileSet tiles = getTiles();
+        List<Piece> pieces = placement.getPieces();
+        Location[] locations = new Location[pieces.size()];
+
+        Location location = placement.getStartLocation();
+        for (int i = 0; i < locations.length; i++) {
+            if (i > 0) {
+                location = nextOpen(location, placement.getOrientation(), tiles);
+            }
+
+            locations[i] = location;
+        }
+
+        for (int i = 0; i < locations.length; i++) {
+            tiles.getTile(locations[i]).setPiece(pieces.get(i));
+            rehash(locations[i], pieces.get(i));
+        }
+
+        List<Location> changed = List.of(locations);
+        refresh(changed);
+
+        return new Undo(this, changed, Evaluation.getPoints(evaluation), applied++);
+    }
+
+    @Override
+    public void revert(Undo undo)
+    {
+        if (undo.getBoard() != this) {
+            throw new IllegalStateException("The placement was not applied to this board");
+        }
+        if (undo.getDepth() != applied - 1) {
+            throw new IllegalStateException("Placements must be reverted in the reverse of the order they were applied");
+        }
+
+        log.trace("Reverting placement at {}", undo.getLocations());
+
+        TileSet tiles = getTiles();
+        for (Location location : undo.getLocations()) {
+            Tile tile = tiles.getTile(location);
+            tile.getPiece().ifPresent(piece -> rehash(location, piece));
+            tile.setPiece(null);
+        }
+
+        refresh(undo.getLocations());
+        applied--;
+    }
+
     @Override
     public int calculatePoints(Placement placement)
     {
@@ -140,6 +411,299 @@ public class BoardImpl implements Board
         return scoreCalc.getScore(pieces, words, attributes);
     }
 
+    /**
+     * When the default word factory and score calculator are in use, the
+     * placement is validated, its words are formed and checked against the
+     * dictionary, and the words are scored in a single walk over the tiles. No
+     * piece map, word set, attribute map or location is built along the way, and
+     * tile attributes are read without being copied. Attributes that the scoring
+     * model cannot stand in for are gathered once per placement rather than once
+     * per word.
+     */
+    @Override
+    public long evaluate(Placement placement)
+    {
+        if (!singlePass) {
+            return evaluateInSteps(placement);
+        }
+
+        List<Piece> pieces = placement.getPieces();
+        if (pieces.isEmpty()) {
+            return Evaluation.INVALID;
+        }
+
+        TileSet tiles = getTiles();
+        Orientation orientation = placement.getOrientation();
+        boolean firstPlacement = !tiles.hasPiece(start);
+        long boardStart = PackedLocation.pack(start);
+
+        ScoringModel model = getScoringModel();
+
+        boolean anchored = false;
+        boolean attributed = false;
+        boolean compiled = true;
+
+        /*
+         * Walk packed locations so that no location is created for each piece.
+         */
+        long first = PackedLocation.pack(placement.getStartLocation());
+        long location = first;
+        for (int i = 0; i < pieces.size(); i++) {
+            if (i > 0) {
+                location = nextOpen(location, orientation, tiles);
+            }
+
+            if (!PackedLocation.contains(dimension, location)) {
+                return Evaluation.INVALID;
+            }
+
+            Tile tile = tiles.getTile(location);
+            if (tile.hasPiece()) {
+                return Evaluation.INVALID;
+            }
+
+            anchored = anchored || (firstPlacement ? location == boardStart : hasAdjacentPiece(location, tiles));
+            Set<TileAttribute> attributes = tile.viewAttributes();
+            attributed = attributed || !attributes.isEmpty();
+            compiled = compiled && model.isCompiled(location, attributes);
+        }
+        long last = location;
+
+        if (!anchored) {
+            return Evaluation.INVALID;
+        }
+
+        AttributedTile[] attributedTiles = null;
+        if (!attributed) {
+            model = null;
+        } else if (!compiled) {
+            model = null;
+            attributedTiles = getAttributedTiles(first, orientation, pieces.size(), tiles);
+        }
+
+        ScoreCalculatorImpl calc = (ScoreCalculatorImpl) scoreCalc;
+        int points = pieces.size() == calc.getRackSize() ? calc.getRackBonus() : 0;
+        int wordCount = 0;
+
+        int wordPoints = scoreWord(pieces, orientation, first, last, 0, true, attributedTiles, model);
+        if (wordPoints == INVALID_WORD) {
+            return Evaluation.INVALID;
+        }
+        if (wordPoints != NO_WORD) {
+            points += wordPoints;
+            wordCount++;
+        }
+
+        location = first;
+        for (int i = 0; i < pieces.size(); i++) {
+            if (i > 0) {
+                location = nextOpen(location, orientation, tiles);
+            }
+
+            for (Orientation crossOrientation : orientationArray) {
+                if (crossOrientation.equals(orientation)) {
+                    continue;
+                }
+
+                wordPoints = scoreWord(pieces, crossOrientation, location, location, i, false, attributedTiles, model);
+                if (wordPoints == INVALID_WORD) {
+                    return Evaluation.INVALID;
+                }
+                if (wordPoints != NO_WORD) {
+                    points += wordPoints;
+                    wordCount++;
+                }
+            }
+        }
+
+        if (wordCount == 0) {
+            log.debug("Placement is invalid, no words formed");
+            return Evaluation.INVALID;
+        }
+
+        return Evaluation.of(points, wordCount);
+    }
+
+    /**
+     * Evaluate the given placement using the configured word factory and score
+     * calculator.
+     */
+    protected long evaluateInSteps(Placement placement)
+    {
+        SortedMap<Location, Piece> pieces = getPieces(placement);
+        if (!isLocationSetValid(pieces.keySet())) {
+            return Evaluation.INVALID;
+        }
+
+        Set<Word> words = wordFactory.getWords(pieces, placement.getOrientation(), this);
+        if (!isWordSetValid(words)) {
+            return Evaluation.INVALID;
+        }
+
+        Map<Location, List<TileAttribute>> attributes = getTiles().getAttributes(pieces.keySet());
+        return Evaluation.of(scoreCalc.getScore(pieces, words, attributes), words.size());
+    }
+
+    /*
+     * Check and score the line of tiles along the given orientation that passes
+     * through the new pieces from the span start to the span end (inclusive),
+     * where the piece at the span start is the given index into the placement.
+     * Empty tiles inside the span hold new pieces, in order. If a scoring model is
+     * given, the attributes under the new pieces have been compiled into it and
+     * its multipliers are used. Otherwise, the given attributed tiles, if any, are
+     * applied to each tile of the word.
+     */
+    private int scoreWord(List<Piece> pieces,
+                          Orientation orientation,
+                          long spanStart,
+                          long spanEnd,
+                          int pieceIndex,
+                          boolean mainWord,
+                          AttributedTile[] attributedTiles,
+                          ScoringModel model)
+    {
+        TileSet tiles = getTiles();
+
+        long wordStart = spanStart;
+        for (long l = orientation.move(wordStart, -1); tiles.hasPiece(l); l = orientation.move(l, -1)) {
+            wordStart = l;
+        }
+
+        WordGraph graph = dictionaryGraph;
+        int node = graph == null ? WordGraph.NONE : graph.getRoot();
+        StringBuilder text = graph == null ? new StringBuilder() : null;
+        int crossPiece = mainWord ? -1 : pieceIndex;
+        int length = 0;
+        int points = 0;
+        int wordMultiplier = 1;
+
+        boolean inSpan = false;
+        for (long l = wordStart;; l = orientation.move(l, 1)) {
+            inSpan = inSpan || l == spanStart;
+
+            /*
+             * The tile past the end of the word may be off the board, so it is not
+             * requested.
+             */
+            boolean occupied = tiles.hasPiece(l);
+            if (!occupied && !inSpan) {
+                break;
+            }
+
+            Tile tile = tiles.getTile(l);
+            Piece piece;
+            int value;
+            if (occupied) {
+                piece = tile.getPiece().orElseThrow();
+                value = tile.getBaseValue();
+            } else {
+                piece = pieces.get(pieceIndex++);
+                value = piece.getValue();
+            }
+
+            Letter letter = piece.getLetter().orElseThrow();
+            if (text != null) {
+                text.append(letter.toString());
+            } else if (node != WordGraph.NONE) {
+                node = graph.getChild(node, letter.getCharacter());
+            }
+
+            if (model != null) {
+                if (!occupied) {
+                    value *= model.getLetterMultiplier(l);
+                    wordMultiplier *= model.getWordMultiplier(l);
+                }
+            } else if (attributedTiles != null) {
+                value = applyAttributes(value, l, attributedTiles, crossPiece);
+            }
+
+            points += value;
+            length++;
+
+            if (l == spanEnd) {
+                inSpan = false;
+            }
+        }
+
+        // TODO minimum word length should be in the configuration
+        if (length < 2) {
+            return NO_WORD;
+        }
+
+        boolean valid = text != null
+                        ? dictionary.isValid(text.toString())
+                        : node != WordGraph.NONE && graph.isTerminal(node);
+        if (!valid) {
+            if (log.isDebugEnabled()) {
+                log.debug("Word at {} along {} is invalid, not in the dictionary",
+                          PackedLocation.unpack(wordStart),
+                          orientation);
+            }
+            return INVALID_WORD;
+        }
+
+        return points * wordMultiplier;
+    }
+
+    /*
+     * Gather the new pieces of a placement that sit on tiles with attributes, so
+     * that scoring each word does not walk the placement again.
+     */
+    private AttributedTile[] getAttributedTiles(long first, Orientation orientation, int count, TileSet tiles)
+    {
+        List<AttributedTile> attributedTiles = new ArrayList<>();
+
+        long location = first;
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                location = nextOpen(location, orientation, tiles);
+            }
+
+            Set<TileAttribute> attributes = tiles.getTile(location).viewAttributes();
+            if (!attributes.isEmpty()) {
+                attributedTiles.add(new AttributedTile(location, i, attributes));
+            }
+        }
+
+        return attributedTiles.toArray(new AttributedTile[0]);
+    }
+
+    /*
+     * Apply the attributes under each new piece in a placement to the value of
+     * the tile at the given location. Every new piece is part of the main word,
+     * but only the given piece (by index) is part of a cross word.
+     */
+    private static int applyAttributes(int value, long location, AttributedTile[] attributedTiles, int crossPiece)
+    {
+        for (AttributedTile attributedTile : attributedTiles) {
+            Distance distance = PackedLocation.distance(location, attributedTile.location());
+            boolean sameWord = crossPiece < 0 || crossPiece == attributedTile.piece();
+            for (TileAttribute attribute : attributedTile.attributes()) {
+                value = attribute.modifyValue(value, distance, sameWord);
+            }
+        }
+
+        return value;
+    }
+
+    private Location nextOpen(Location location, Orientation orientation, TileSet tiles)
+    {
+        do {
+            location = orientation.move(location, 1);
+        } while (tiles.hasPiece(location));
+
+        return location;
+    }
+
+    private static long nextOpen(long location, Orientation orientation, TileSet tiles)
+    {
+        do {
+            location = orientation.move(location, 1);
+        } while (tiles.hasPiece(location));
+
+        return location;
+    }
+
     protected SortedMap<Location, Piece> getPieces(Placement placement)
     {
         log.trace("Building piece map from placement: {}", placement);
@@ -165,7 +729,7 @@ public class BoardImpl implements Board
             do {
                 location = orientation.move(location, 1);
                 log.trace("Testing next location at {}", location);
-            } while (getTiles().getTile(location).hasPiece());
+            } while (getTiles().hasPiece(location));
         }
 
         return map;
@@ -192,7 +756,7 @@ public class BoardImpl implements Board
             // TODO by eliminating overlapping pieces, a possible game mechanic is removed -
             // make this config
             log.trace("Testing location at {} for board dimensions and overlapping pieces", location);
-            if (!dimension.contains(location) || getTiles().getTile(location).hasPiece()) {
+            if (!dimension.contains(location) || getTiles().hasPiece(location)) {
                 log.debug("Location at {} is invalid", location);
                 return false;
             }
@@ -201,7 +765,7 @@ public class BoardImpl implements Board
         // TODO requiring a start location should be a configurable item - perhaps use a
         // null board start to indicate
         Location boardStart = getStart();
-        if (!getTiles().getTile(boardStart).hasPiece()) {
+        if (!getTiles().hasPiece(boardStart)) {
             log.trace("Board has no pieces yet, testing placement against start location {}", boardStart);
             return locations.contains(boardStart);
         }
@@ -237,9 +801,13 @@ public class BoardImpl implements Board
         return true;
     }
 
+    /*
+     * The tiles are read directly rather than through the occupancy, so that
+     * validation never depends on state derived from the tiles.
+     */
     protected boolean hasAdjacentPiece(Location location)
     {
-        for (Orientation orientation : orientations) {
+        for (Orientation orientation : orientationArray) {
             if (hasAdjacentPiece(location, orientation)) {
                 log.trace("Found piece adjacent to {} along {}", location, orientation);
                 return true;
@@ -252,8 +820,19 @@ public class BoardImpl implements Board
 
     protected boolean hasAdjacentPiece(Location location, Orientation orientation)
     {
-        return getTiles().getTile(orientation.move(location, 1)).hasPiece()
-               || getTiles().getTile(orientation.move(location, -1)).hasPiece();
+        return getTiles().hasPiece(orientation.move(location, 1))
+               || getTiles().hasPiece(orientation.move(location, -1));
+    }
+
+    private boolean hasAdjacentPiece(long location, TileSet tiles)
+    {
+        for (Orientation orientation : orientationArray) {
+            if (tiles.hasPiece(orientation.move(location, 1)) || tiles.hasPiece(orientation.move(location, -1))) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     protected void updateTiles(SortedMap<Location, Piece> pieces)
@@ -264,6 +843,42 @@ public class BoardImpl implements Board
 
             log.trace("Updating tile set with new piece {} at {}", piece, location);
             getTiles().getTile(location).setPiece(piece);
+            rehash(location, piece);
+        }
+
+        refresh(pieces.keySet());
+    }
+
+    /*
+     * Add or remove, which are the same operation, the key of the given piece
+     * to or from the hash if it has been computed.
+     */
+    private void rehash(Location location, Piece piece)
+    {
+        if (hashed) {
+            hash ^= Zobrist.tile(location, piece);
+        }
+    }
+
+    /*
+     * Bring the cross checks and occupancy, if they have been computed, up to
+     * date with the tiles at the given locations.
+     */
+    private void refresh(Collection<Location> locations)
+    {
+        if (crossChecks != null) {
+            crossChecks.update(locations);
         }
+
+        if (occupancy != null) {
+            occupancy.update(locations);
+        }
+    }
+
+    /*
+     * A new piece of a placement, by index, on a tile with the given attributes.
+     */
+    private record AttributedTile(long location, int piece, Set<TileAttribute> attributes)
+    {
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A board that cannot be changed, taken by {@link BoardImpl#snapshot()}. Its
+ * tiles are copied when the snapshot is taken, along with the cross checks,
+ * occupancy and hash if the source board has computed them. Anything else is
+ * computed from the copied tiles when it is first requested, under a lock, so
+ * that a search which never needs it (such as the cross checks of a brute force
+ * search) does not pay for it.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class BoardSnapshot extends BoardImpl
+{
+    /**
+     * Guards the lazy computations of the board, since a snapshot is read by
+     * many threads at once. A lock is used rather than a monitor so that virtual
+     * threads waiting on it are not pinned.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    BoardSnapshot(BoardImpl source, TileSetSnapshot tiles)
+    {
+        super(source, tiles);
+    }
+
+    @Override
+    public CrossChecks getCrossChecks()
+    {
+        lock.lock();
+        try {
+            return super.getCrossChecks();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Occupancy getOccupancy()
+    {
+        lock.lock();
+        try {
+            return super.getOccupancy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getHash()
+    {
+        lock.lock();
+        try {
+            return super.getHash();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public int place(Placement placement)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Undo apply(Placement placement)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void revert(Undo undo)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public Board snapshot()
+    {
+        return this;
+    }
+}
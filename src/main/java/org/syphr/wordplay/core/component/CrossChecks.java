@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.syphr.wordplay.core.lang.Alphabet;
+import org.syphr.wordplay.core.lang.WordGraph;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+
+/**
+ * Cross checks record, for every empty tile on a board and every orientation,
+ * which letters could be placed on that tile without forming an invalid word
+ * along that orientation, and the base value (see {@link Tile#getBaseValue()})
+ * of the existing pieces that the word would include. A move generator placing
+ * a piece along one orientation can then reject a letter with a single bit test
+ * against each other orientation instead of building and looking up the word.
+ * <p>
+ * Letters are represented by their bit in the board dictionary's
+ * {@link Alphabet}. A tile with no neighboring pieces along an orientation
+ * allows every letter along it and has no cross word.
+ * <p>
+ * Cross checks only change near new pieces, so after a placement only the
+ * nearest empty tile at each end of the affected words is recomputed (see
+ * {@link #update(Collection)}).
+ *
+ * @author Gregory P. Moyer
+ */
+@NotThreadSafe
+public class CrossChecks
+{
+    private static final int NO_CROSS_WORD = -1;
+
+    private final Dimension dimension;
+    private final Orientation[] orientations;
+    private final TileSet tiles;
+    private final WordGraph graph;
+    private final Alphabet alphabet;
+
+    private final long[] masks;
+    private final int[] scores;
+
+    /**
+     * Compute the cross checks of every tile on the board.
+     *
+     * @param dimension    the board size
+     * @param orientations the board orientations
+     * @param tiles        the board tiles
+     * @param graph        the dictionary words
+     * @param alphabet     the dictionary letters
+     */
+    public CrossChecks(Dimension dimension,
+                       Set<Orientation> orientations,
+                       TileSet tiles,
+                       WordGraph graph,
+                       Alphabet alphabet)
+    {
+        this.dimension = dimension;
+        this.orientations = orientations.toArray(Orientation[]::new);
+        this.tiles = tiles;
+        this.graph = graph;
+        this.alphabet = alphabet;
+
+        int size = dimension.width() * dimension.height() * dimension.depth() * this.orientations.length;
+        this.masks = new long[size];
+        this.scores = new int[size];
+
+        for (int x = 0; x < dimension.width(); x++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int z = 0; z < dimension.depth(); z++) {
+                    Location location = Location.at(x, y, z);
+                    for (int o = 0; o < this.orientations.length; o++) {
+                        compute(location, o);
+                    }
+                }
+            }
+        }
+    }
+
+    private CrossChecks(CrossChecks source, TileSet tiles)
+    {
+        this.dimension = source.dimension;
+        this.orientations = source.orientations;
+        this.tiles = tiles;
+        this.graph = source.graph;
+        this.alphabet = source.alphabet;
+        this.masks = source.masks.clone();
+        this.scores = source.scores.clone();
+    }
+
+    /**
+     * Copy these cross checks for a snapshot of the board's tiles.
+     *
+     * @param tiles the tiles of the snapshot, which must match the tiles these
+     *              cross checks were computed from
+     *
+     * @return the copy
+     */
+    CrossChecks copy(TileSet tiles)
+    {
+        return new CrossChecks(this, tiles);
+    }
+
+    /**
+     * Retrieve the alphabet that maps letters to bits in the masks.
+     *
+     * @return the alphabet
+     */
+    public Alphabet getAlphabet()
+    {
+        return alphabet;
+    }
+
+    /**
+     * Retrieve the set of letters that may be placed at the given location without
+     * forming an invalid word along the given orientation.
+     *
+     * @param location    the location of the tile
+     * @param orientation the orientation of the cross word
+     *
+     * @return a mask of the allowed letters (see {@link Alphabet#getMask(char)});
+     *         zero if the location is occupied or off the board
+     */
+    public long getMask(Location location, Orientation orientation)
+    {
+        int index = indexOf(location, orientation);
+        return index < 0 ? 0L : masks[index];
+    }
+
+    /**
+     * Determine whether or not the given letter may be placed at the given
+     * location without forming an invalid word along the given orientation.
+     *
+     * @param location    the location of the tile
+     * @param orientation the orientation of the cross word
+     * @param character   the letter
+     *
+     * @return <code>true</code> if the letter is allowed; <code>false</code>
+     *         otherwise
+     */
+    public boolean isAllowed(Location location, Orientation orientation, char character)
+    {
+        return (getMask(location, orientation) & alphabet.getMask(character)) != 0;
+    }
+
+    /**
+     * Determine whether or not a piece placed at the given location would form a
+     * word of at least two letters along the given orientation.
+     *
+     * @param location    the location of the tile
+     * @param orientation the orientation of the cross word
+     *
+     * @return <code>true</code> if the location is empty and has a neighboring
+     *         piece along the orientation; <code>false</code> otherwise
+     */
+    public boolean hasCrossWord(Location location, Orientation orientation)
+    {
+        int index = indexOf(location, orientation);
+        return index >= 0 && scores[index] != NO_CROSS_WORD;
+    }
+
+    /**
+     * Retrieve the sum of the base values of the existing pieces in the word that
+     * a piece placed at the given location would form along the given orientation.
+     *
+     * @param location    the location of the tile
+     * @param orientation the orientation of the cross word
+     *
+     * @return the base score of the cross word; zero if there is none
+     */
+    public int getScore(Location location, Orientation orientation)
+    {
+        int index = indexOf(location, orientation);
+        return index < 0 || scores[index] == NO_CROSS_WORD ? 0 : scores[index];
+    }
+
+    /**
+     * Recompute the cross checks affected by new pieces at the given locations.
+     * The pieces must already be on the tiles.
+     *
+     * @param locations the locations of the new pieces
+     */
+    public void update(Collection<Location> locations)
+    {
+        for (Location location : locations) {
+            for (int o = 0; o < orientations.length; o++) {
+                Orientation orientation = orientations[o];
+
+                compute(location, o);
+
+                Location before = orientation.move(location, -1);
+                while (hasPiece(before)) {
+                    before = orientation.move(before, -1);
+                }
+                compute(before, o);
+
+                Location after = orientation.move(location, 1);
+                while (hasPiece(after)) {
+                    after = orientation.move(after, 1);
+                }
+                compute(after, o);
+            }
+        }
+    }
+
+    private void compute(Location location, int o)
+    {
+        if (!dimension.contains(location)) {
+            return;
+        }
+
+        int index = indexOf(location, o);
+        if (hasPiece(location)) {
+            masks[index] = 0L;
+            scores[index] = NO_CROSS_WORD;
+            return;
+        }
+
+        Orientation orientation = orientations[o];
+        Location before = orientation.move(location, -1);
+        Location after = orientation.move(location, 1);
+        if (!hasPiece(before) && !hasPiece(after)) {
+            masks[index] = alphabet.getFullMask();
+            scores[index] = NO_CROSS_WORD;
+            return;
+        }
+
+        Location wordStart = before;
+        while (hasPiece(orientation.move(wordStart, -1))) {
+            wordStart = orientation.move(wordStart, -1);
+        }
+
+        int score = 0;
+        int node = graph.getRoot();
+        for (Location l = wordStart; hasPiece(l) && !l.equals(location); l = orientation.move(l, 1)) {
+            Tile tile = tiles.getTile(l);
+            score += tile.getBaseValue();
+            node = node == WordGraph.NONE ? node : graph.getChild(node, getCharacter(tile));
+        }
+
+        List<Tile> suffix = new ArrayList<>();
+        for (Location l = after; hasPiece(l); l = orientation.move(l, 1)) {
+            Tile tile = tiles.getTile(l);
+            score += tile.getBaseValue();
+            suffix.add(tile);
+        }
+
+        long mask = 0L;
+        if (node != WordGraph.NONE) {
+            for (int i = 0; i < graph.getEdgeCount(node); i++) {
+                int child = graph.getEdgeTarget(node, i);
+                for (int s = 0; s < suffix.size() && child != WordGraph.NONE; s++) {
+                    child = graph.getChild(child, getCharacter(suffix.get(s)));
+                }
+
+                if (child != WordGraph.NONE && graph.isTerminal(child)) {
+                    mask |= alphabet.getMask(graph.getEdgeCharacter(node, i));
+                }
+            }
+        }
+
+        masks[index] = mask;
+        scores[index] = score;
+    }
+
+    private boolean hasPiece(Location location)
+    {
+        return dimension.contains(location) && tiles.hasPiece(location);
+    }
+
+    private char getCharacter(Tile tile)
+    {
+        return tile.getPiece().orElseThrow().getLetter().orElseThrow().getCharacter();
+    }
+
+    private int indexOf(Location location, Orientation orientation)
+    {
+        if (!dimension.contains(location)) {
+            return -1;
+        }
+
+        for (int o = 0; o < orientations.length; o++) {
+            if (orientations[o].equals(orientation)) {
+                return indexOf(location, o);
+            }
+        }
+
+        return -1;
+    }
+
+    private int indexOf(Location location, int o)
+    {
+        return ((location.x() * dimension.height() + location.y()) * dimension.depth() + location.z())
+               * orientations.length
+               + o;
+    }
+}
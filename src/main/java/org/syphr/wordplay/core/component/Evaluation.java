@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+/**
+ * Utilities for reading the result of {@link Board#evaluate(Placement)}. The
+ * result of an evaluation is packed into a single <code>long</code> so that
+ * evaluating a placement does not need to allocate an object: the upper 32 bits
+ * hold the number of words formed and the lower 32 bits hold the points earned.
+ * An invalid placement is represented by {@link #INVALID}.
+ *
+ * @author Gregory P. Moyer
+ */
+public final class Evaluation
+{
+    /**
+     * The result of evaluating a placement that is not valid.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Pack the result of evaluating a valid placement.
+     *
+     * @param points    the points earned
+     * @param wordCount the number of words formed
+     *
+     * @return the packed result
+     */
+    public static long of(int points, int wordCount)
+    {
+        if (wordCount < 1) {
+            throw new IllegalArgumentException("A valid placement forms at least one word: " + wordCount);
+        }
+
+        return ((long) wordCount << 32) | (points & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Determine whether or not the given result represents a valid placement.
+     *
+     * @param evaluation the packed result
+     *
+     * @return <code>true</code> if the placement is valid; <code>false</code>
+     *         otherwise
+     */
+    public static boolean isValid(long evaluation)
+    {
+        return evaluation != INVALID;
+    }
+
+    /**
+     * Retrieve the points earned from the given result.
+     *
+     * @param evaluation the packed result
+     *
+     * @return the points earned, or <code>0</code> if the placement is invalid
+     */
+    public static int getPoints(long evaluation)
+    {
+        return isValid(evaluation) ? (int) evaluation : 0;
+    }
+
+    /**
+     * Retrieve the number of words formed from the given result.
+     *
+     * @param evaluation the packed result
+     *
+     * @return the number of words formed, or <code>0</code> if the placement is
+     *         invalid
+     */
+    public static int getWordCount(long evaluation)
+    {
+        return isValid(evaluation) ? (int) (evaluation >>> 32) : 0;
+    }
+
+    private Evaluation()
+    {
+        /*
+         * Static utilities
+         */
+    }
+}
@@ -47,6 +47,16 @@ public class MultiplierAttribute implements TileAttribute
         return (int)Math.round(value * multiplier);
     }
 
+    public Distance getMaxDistance()
+    {
+        return maxDistance;
+    }
+
+    public double getMultiplier()
+    {
+        return multiplier;
+    }
+
     public boolean isContainingWordOnly()
     {
         return containingWordOnly;
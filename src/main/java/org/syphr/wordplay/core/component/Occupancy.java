@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Vector;
+
+/**
+ * Occupancy records which tiles on a board hold a piece as a set of bits, one
+ * row of bits along the x axis for each y and z. Alongside it, a second set of
+ * bits records which tiles are next to an occupied tile along any of the board
+ * orientations. Because a whole row is held in a few words, the neighbors of
+ * every tile in a row are found by shifting the occupied rows around it and
+ * combining them, rather than by visiting tiles one at a time.
+ * <p>
+ * Anchors, the empty tiles next to an occupied tile where new placements must
+ * attach, are then the adjacent bits that are not occupied.
+ * <p>
+ * After a placement, {@link #update(Collection)} refreshes the changed tiles
+ * from the tile set and recomputes the adjacency bits of the rows around them.
+ *
+ * @author Gregory P. Moyer
+ */
+@NotThreadSafe
+public class Occupancy
+{
+    private final Dimension dimension;
+    private final TileSet tiles;
+
+    /**
+     * The step taken by each orientation, as <code>{x, y, z}</code>.
+     */
+    private final int[][] steps;
+
+    private final int wordsPerRow;
+    private final long lastWordMask;
+
+    private final long[] occupied;
+    private final long[] adjacent;
+
+    private int count;
+
+    /**
+     * Read the occupancy of every tile on the board.
+     *
+     * @param dimension    the board size
+     * @param orientations the board orientations
+     * @param tiles        the board tiles
+     */
+    public Occupancy(Dimension dimension, Set<Orientation> orientations, TileSet tiles)
+    {
+        this.dimension = dimension;
+        this.tiles = tiles;
+
+        this.steps = orientations.stream().map(orientation -> {
+            Vector step = orientation.getUnitVector();
+            return new int[] { step.x(), step.y(), step.z() };
+        }).toArray(int[][]::new);
+
+        this.wordsPerRow = (dimension.width() + Long.SIZE - 1) / Long.SIZE;
+        int remainder = dimension.width() % Long.SIZE;
+        this.lastWordMask = remainder == 0 ? -1L : (1L << remainder) - 1;
+
+        int size = wordsPerRow * dimension.height() * dimension.depth();
+        this.occupied = new long[size];
+        this.adjacent = new long[size];
+
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    if (tiles.hasPiece(Location.at(x, y, z))) {
+                        set(x, y, z);
+                    }
+                }
+            }
+        }
+
+        computeAdjacent();
+    }
+
+    private Occupancy(Occupancy source, TileSet tiles)
+    {
+        this.dimension = source.dimension;
+        this.tiles = tiles;
+        this.steps = source.steps;
+        this.wordsPerRow = source.wordsPerRow;
+        this.lastWordMask = source.lastWordMask;
+        this.occupied = source.occupied.clone();
+        this.adjacent = source.adjacent.clone();
+        this.count = source.count;
+    }
+
+    /**
+     * Copy this occupancy for a snapshot of the board's tiles.
+     *
+     * @param tiles the tiles of the snapshot, which must match the tiles this
+     *              occupancy was read from
+     *
+     * @return the copy
+     */
+    Occupancy copy(TileSet tiles)
+    {
+        return new Occupancy(this, tiles);
+    }
+
+    /**
+     * Refresh the occupancy of the given locations from the tile set, after pieces
+     * have been placed on or removed from them.
+     *
+     * @param locations the locations that changed
+     */
+    public void update(Collection<Location> locations)
+    {
+        for (Location location : locations) {
+            if (!dimension.contains(location)) {
+                continue;
+            }
+
+            boolean hasPiece = tiles.hasPiece(location);
+            if (hasPiece != isOccupied(location.x(), location.y(), location.z())) {
+                if (hasPiece) {
+                    set(location.x(), location.y(), location.z());
+                } else {
+                    clear(location.x(), location.y(), location.z());
+                }
+            }
+        }
+
+        /*
+         * Only the rows holding a changed location, or one step away from it, can
+         * have different adjacency.
+         */
+        for (Location location : locations) {
+            int y = location.y();
+            int z = location.z();
+
+            computeAdjacent(y, z);
+            for (int[] step : steps) {
+                if (step[1] != 0 || step[2] != 0) {
+                    computeAdjacent(y + step[1], z + step[2]);
+                    computeAdjacent(y - step[1], z - step[2]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determine whether or not any tile on the board is occupied.
+     *
+     * @return <code>true</code> if no tile holds a piece; <code>false</code>
+     *         otherwise
+     */
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    /**
+     * Retrieve the number of occupied tiles.
+     *
+     * @return the number of occupied tiles
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Determine whether or not the given location holds a piece.
+     *
+     * @param location the location
+     *
+     * @return <code>true</code> if the location is occupied; <code>false</code> if
+     *         it is empty or off the board
+     */
+    public boolean isOccupied(Location location)
+    {
+        return isOccupied(location.x(), location.y(), location.z());
+    }
+
+    /**
+     * Determine whether or not the given coordinates hold a piece.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return <code>true</code> if the coordinates are occupied;
+     *         <code>false</code> if they are empty or off the board
+     */
+    public boolean isOccupied(int x, int y, int z)
+    {
+        return contains(x, y, z) && (occupied[wordIndex(x, y, z)] & bit(x)) != 0;
+    }
+
+    /**
+     * Determine whether or not the given location is next to an occupied tile
+     * along any of the board orientations. The location itself may be off the
+     * board.
+     *
+     * @param location the location
+     *
+     * @return <code>true</code> if an occupied tile is adjacent;
+     *         <code>false</code> otherwise
+     */
+    public boolean hasAdjacent(Location location)
+    {
+        int x = location.x();
+        int y = location.y();
+        int z = location.z();
+
+        if (contains(x, y, z)) {
+            return (adjacent[wordIndex(x, y, z)] & bit(x)) != 0;
+        }
+
+        for (int[] step : steps) {
+            if (isOccupied(x + step[0], y + step[1], z + step[2])
+                || isOccupied(x - step[0], y - step[1], z - step[2])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determine whether or not the given location is an anchor: an empty tile on
+     * the board next to an occupied tile.
+     *
+     * @param location the location
+     *
+     * @return <code>true</code> if the location is an anchor; <code>false</code>
+     *         otherwise
+     */
+    public boolean isAnchor(Location location)
+    {
+        int x = location.x();
+        int y = location.y();
+        int z = location.z();
+        if (!contains(x, y, z)) {
+            return false;
+        }
+
+        int index = wordIndex(x, y, z);
+        return (adjacent[index] & ~occupied[index] & bit(x)) != 0;
+    }
+
+    /**
+     * Retrieve every anchor on the board: the empty tiles next to an occupied
+     * tile. They are ordered by z, then y, then x.
+     *
+     * @return the anchor locations
+     */
+    public List<Location> getAnchors()
+    {
+        List<Location> anchors = new ArrayList<>();
+
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                int row = rowIndex(y, z);
+                for (int w = 0; w < wordsPerRow; w++) {
+                    long bits = adjacent[row + w] & ~occupied[row + w];
+                    while (bits != 0) {
+                        int x = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                        anchors.add(Location.at(x, y, z));
+                        bits &= bits - 1;
+                    }
+                }
+            }
+        }
+
+        return anchors;
+    }
+
+    /*
+     * A tile is adjacent to an occupied tile if the tile one step away along an
+     * orientation, in either direction, is occupied. For each row, that is the
+     * occupied row one step away along y and z, shifted one step along x.
+     */
+    private void computeAdjacent()
+    {
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                computeAdjacent(y, z);
+            }
+        }
+    }
+
+    private void computeAdjacent(int y, int z)
+    {
+        if (y < 0 || z < 0 || y >= dimension.height() || z >= dimension.depth()) {
+            return;
+        }
+
+        int row = rowIndex(y, z);
+        for (int w = 0; w < wordsPerRow; w++) {
+            adjacent[row + w] = 0L;
+        }
+
+        for (int[] step : steps) {
+            orShifted(row, y + step[1], z + step[2], -step[0]);
+            orShifted(row, y - step[1], z - step[2], step[0]);
+        }
+
+        adjacent[row + wordsPerRow - 1] &= lastWordMask;
+    }
+
+    /*
+     * Combine the occupied row at the given y and z, with each bit moved by the
+     * given shift along x, into the adjacency row at the given index.
+     */
+    private void orShifted(int targetRow, int y, int z, int shift)
+    {
+        if (y < 0 || z < 0 || y >= dimension.height() || z >= dimension.depth()) {
+            return;
+        }
+
+        int sourceRow = rowIndex(y, z);
+        int wordShift = Math.floorDiv(shift, Long.SIZE);
+        int bitShift = Math.floorMod(shift, Long.SIZE);
+
+        for (int w = 0; w < wordsPerRow; w++) {
+            int source = w - wordShift;
+            long word = wordAt(sourceRow, source) << bitShift;
+            if (bitShift != 0) {
+                word |= wordAt(sourceRow, source - 1) >>> (Long.SIZE - bitShift);
+            }
+
+            adjacent[targetRow + w] |= word;
+        }
+    }
+
+    private long wordAt(int row, int word)
+    {
+        return word < 0 || word >= wordsPerRow ? 0L : occupied[row + word];
+    }
+
+    private void set(int x, int y, int z)
+    {
+        occupied[wordIndex(x, y, z)] |= bit(x);
+        count++;
+    }
+
+    private void clear(int x, int y, int z)
+    {
+        occupied[wordIndex(x, y, z)] &= ~bit(x);
+        count--;
+    }
+
+    private boolean contains(int x, int y, int z)
+    {
+        return x >= 0 && y >= 0 && z >= 0 && x < dimension.width() && y < dimension.height() && z < dimension.depth();
+    }
+
+    private int rowIndex(int y, int z)
+    {
+        return (y + dimension.height() * z) * wordsPerRow;
+    }
+
+    private int wordIndex(int x, int y, int z)
+    {
+        return rowIndex(y, z) + x / Long.SIZE;
+    }
+
+    private static long bit(int x)
+    {
+        return 1L << (x % Long.SIZE);
+    }
+}
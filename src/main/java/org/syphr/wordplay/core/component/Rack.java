@@ -123,4 +123,13 @@ public interface Rack
      * @return the maximum number of pieces
      */
     public int getMaxPieces();
+
+    /**
+     * Retrieve a hash of the pieces on this rack, regardless of their order.
+     * Racks holding the same letters have the same hash. The hash is the sum of
+     * the {@link Zobrist#pool(Piece) Zobrist keys} of the pieces.
+     *
+     * @return the hash
+     */
+    public long getHash();
 }
@@ -133,6 +133,17 @@ public class RackImpl implements Rack
         return maxPieces;
     }
 
+    @Override
+    public long getHash()
+    {
+        long hash = 0L;
+        for (Piece piece : pieces) {
+            hash += Zobrist.pool(piece);
+        }
+
+        return hash;
+    }
+
     // TODO this feels like hack or at least in the wrong place
     protected void resetWild()
     {
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.syphr.wordplay.core.config.Configuration;
 import org.syphr.wordplay.core.config.TileAttribute;
 import org.syphr.wordplay.core.space.Distance;
 import org.syphr.wordplay.core.space.Line;
@@ -27,16 +28,44 @@ import org.syphr.wordplay.core.space.Location;
 import java.util.Set;
 import java.util.SortedMap;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class ScoreCalculatorImpl implements ScoreCalculator
 {
+    @Getter
     private final int rackSize;
+
+    @Getter
     private final int rackBonus;
 
+    /**
+     * The compiled tile attributes, or <code>null</code> if every placement is
+     * scored by applying its attributes.
+     */
+    @Getter
+    private final ScoringModel model;
+
+    public ScoreCalculatorImpl(int rackSize, int rackBonus)
+    {
+        this(rackSize, rackBonus, null);
+    }
+
+    /**
+     * Construct a calculator that scores placements with the tile attributes of
+     * the given configuration compiled into a {@link ScoringModel}.
+     *
+     * @param configuration the configuration
+     */
+    public ScoreCalculatorImpl(Configuration configuration)
+    {
+        this(configuration.getRackSize(), configuration.getRackBonus(), ScoringModel.of(configuration));
+    }
+
     @Override
     public int getScore(SortedMap<Location, Piece> pieces, Set<Word> words, Map<Location, List<TileAttribute>> attributes)
     {
@@ -45,6 +74,10 @@ public class ScoreCalculatorImpl implements ScoreCalculator
         int points = getBonusPoints(pieces, words);
         log.trace("Bonus points earned {}", points);
 
+        if (isCompiled(attributes)) {
+            return points + getCompiledScore(pieces, words, attributes);
+        }
+
         for (Word word : words) {
             log.trace("Calculating score for word {}", word);
 
@@ -76,6 +109,55 @@ public class ScoreCalculatorImpl implements ScoreCalculator
         return points;
     }
 
+    private boolean isCompiled(Map<Location, List<TileAttribute>> attributes)
+    {
+        if (model == null) {
+            return false;
+        }
+
+        for (Entry<Location, List<TileAttribute>> entry : attributes.entrySet()) {
+            if (!model.isCompiled(entry.getKey(), entry.getValue())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Every attribute is a whole number multiplier, so each word is the sum of its
+     * tiles, with the letter multipliers at the attribute locations applied, times
+     * the word multipliers at the attribute locations along the word.
+     */
+    private int getCompiledScore(SortedMap<Location, Piece> pieces,
+                                 Set<Word> words,
+                                 Map<Location, List<TileAttribute>> attributes)
+    {
+        int points = 0;
+
+        for (Word word : words) {
+            int wordPoints = 0;
+            int wordMultiplier = 1;
+
+            for (Tile tile : word.getTiles()) {
+                Location location = tile.getLocation();
+
+                int tilePoints = tile.hasPiece() ? tile.getBaseValue() : pieces.get(location).getValue();
+                if (attributes.containsKey(location)) {
+                    tilePoints *= model.getLetterMultiplier(location);
+                    wordMultiplier *= model.getWordMultiplier(location);
+                }
+
+                wordPoints += tilePoints;
+            }
+
+            log.trace("Compiled score for word {} = {} x {}", word, wordPoints, wordMultiplier);
+            points += wordPoints * wordMultiplier;
+        }
+
+        return points;
+    }
+
     protected int getBonusPoints(SortedMap<Location, Piece> pieces, Set<Word> words)
     {
         if (pieces.size() == rackSize) {
@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Distance;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.PackedLocation;
+
+/**
+ * The tile attributes of a configuration or a board compiled into integer
+ * tables, one entry per board location, so that scoring a word is a loop of integer
+ * multiplications rather than a call to
+ * {@link TileAttribute#modifyValue(int, Distance, boolean)} for every tile and
+ * attribute.
+ * <p>
+ * Only the attributes made by {@link TileAttributes#letterMultiplier(int)} and
+ * {@link TileAttributes#wordMultiplier(int)}, or any other whole number
+ * {@link MultiplierAttribute} that reaches just its own tile or its whole word,
+ * can be compiled. Since multiplying by a whole number needs no rounding, the
+ * tables give exactly the same scores as applying the attributes one at a time.
+ * A location with any other attribute is not compiled, and a placement that
+ * covers it must be scored by applying its attributes.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public final class ScoringModel
+{
+    private final int width;
+    private final int height;
+    private final int depth;
+
+    private final Set<?>[] attributes;
+    private final int[] letterMultipliers;
+    private final int[] wordMultipliers;
+    private final boolean[] compiled;
+
+    private ScoringModel(Dimension dimension, Function<Location, ? extends Collection<TileAttribute>> attributesAt)
+    {
+        this.width = dimension.width();
+        this.height = dimension.height();
+        this.depth = dimension.depth();
+
+        int size = width * height * depth;
+        this.attributes = new Set<?>[size];
+        this.letterMultipliers = new int[size];
+        this.wordMultipliers = new int[size];
+        this.compiled = new boolean[size];
+
+        for (int z = 0; z < depth; z++) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int index = indexOf(x, y, z);
+                    Location location = Location.at(x, y, z);
+                    Set<TileAttribute> tileAttributes = Set.copyOf(attributesAt.apply(location));
+                    attributes[index] = tileAttributes;
+                    letterMultipliers[index] = 1;
+                    wordMultipliers[index] = 1;
+                    compiled[index] = true;
+
+                    for (TileAttribute attribute : tileAttributes) {
+                        compiled[index] = compiled[index] && compile(attribute, index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compile the tile attributes of the given configuration.
+     *
+     * @param configuration the configuration
+     *
+     * @return the compiled model
+     */
+    public static ScoringModel of(Configuration configuration)
+    {
+        return new ScoringModel(configuration.getBoardDimension(), configuration::getTileAttributes);
+    }
+
+    /**
+     * Compile the tile attributes of the given tiles as they are now.
+     *
+     * @param dimension the dimension of the board that holds the tiles
+     * @param tiles     the tiles
+     *
+     * @return the compiled model
+     */
+    public static ScoringModel of(Dimension dimension, TileSet tiles)
+    {
+        return new ScoringModel(dimension, location -> tiles.getTile(location).viewAttributes());
+    }
+
+    /**
+     * Determine whether or not the given attributes of a tile at the given
+     * location were compiled, in which case the multipliers of this model may be
+     * used in their place. This is not the case if the location holds an
+     * attribute that cannot be compiled, or if the tile's attributes have been
+     * changed since the model was compiled.
+     *
+     * @param location       the location of the tile
+     * @param tileAttributes the attributes of the tile
+     *
+     * @return <code>true</code> if the multipliers may be used;
+     *         <code>false</code> otherwise
+     */
+    public boolean isCompiled(Location location, Collection<TileAttribute> tileAttributes)
+    {
+        return isCompiled(PackedLocation.pack(location), tileAttributes);
+    }
+
+    /**
+     * Determine whether or not the given attributes of a tile at the given
+     * {@link PackedLocation packed location} were compiled.
+     *
+     * @param packed         the packed location of the tile
+     * @param tileAttributes the attributes of the tile
+     *
+     * @return <code>true</code> if the multipliers may be used;
+     *         <code>false</code> otherwise
+     *
+     * @see #isCompiled(Location, Collection)
+     */
+    public boolean isCompiled(long packed, Collection<TileAttribute> tileAttributes)
+    {
+        int index = indexOf(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed));
+        if (index < 0 || !compiled[index]) {
+            return false;
+        }
+
+        Set<?> expected = attributes[index];
+        return expected.size() == tileAttributes.size() && expected.containsAll(tileAttributes);
+    }
+
+    /**
+     * Retrieve the product of the letter multipliers at the given location. It
+     * applies only to a new piece placed there.
+     *
+     * @param location a compiled location
+     *
+     * @return the multiplier, which is <code>1</code> if there is none
+     */
+    public int getLetterMultiplier(Location location)
+    {
+        return letterMultipliers[indexOf(location.x(), location.y(), location.z())];
+    }
+
+    /**
+     * Retrieve the product of the word multipliers at the given location. It
+     * applies to every word that includes a new piece placed there.
+     *
+     * @param location a compiled location
+     *
+     * @return the multiplier, which is <code>1</code> if there is none
+     */
+    public int getWordMultiplier(Location location)
+    {
+        return wordMultipliers[indexOf(location.x(), location.y(), location.z())];
+    }
+
+    /**
+     * Retrieve the product of the letter multipliers at the given
+     * {@link PackedLocation packed location}.
+     *
+     * @param packed a compiled packed location
+     *
+     * @return the multiplier, which is <code>1</code> if there is none
+     *
+     * @see #getLetterMultiplier(Location)
+     */
+    public int getLetterMultiplier(long packed)
+    {
+        return letterMultipliers[indexOf(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed))];
+    }
+
+    /**
+     * Retrieve the product of the word multipliers at the given
+     * {@link PackedLocation packed location}.
+     *
+     * @param packed a compiled packed location
+     *
+     * @return the multiplier, which is <code>1</code> if there is none
+     *
+     * @see #getWordMultiplier(Location)
+     */
+    public int getWordMultiplier(long packed)
+    {
+        return wordMultipliers[indexOf(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed))];
+    }
+
+    private boolean compile(TileAttribute attribute, int index)
+    {
+        /*
+         * A subclass could change how the value is modified, so only the class
+         * itself is understood.
+         */
+        if (attribute.getClass() != MultiplierAttribute.class) {
+            return false;
+        }
+
+        MultiplierAttribute multiplierAttribute = (MultiplierAttribute) attribute;
+        if (!multiplierAttribute.isContainingWordOnly()) {
+            return false;
+        }
+
+        double multiplier = multiplierAttribute.getMultiplier();
+        if (multiplier != Math.rint(multiplier) || multiplier < 0 || multiplier > Integer.MAX_VALUE) {
+            return false;
+        }
+
+        Distance maxDistance = multiplierAttribute.getMaxDistance();
+        if (maxDistance.equals(Distance.zero())) {
+            letterMultipliers[index] *= (int) multiplier;
+            return true;
+        }
+        if (maxDistance.equals(Distance.max())) {
+            wordMultipliers[index] *= (int) multiplier;
+            return true;
+        }
+
+        return false;
+    }
+
+    private int indexOf(int x, int y, int z)
+    {
+        if (x < 0 || y < 0 || z < 0 || x >= width || y >= height || z >= depth) {
+            return -1;
+        }
+
+        return x + width * (y + height * z);
+    }
+}
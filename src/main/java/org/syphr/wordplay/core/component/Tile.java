@@ -100,6 +100,18 @@ public interface Tile extends Comparable<Tile>
      */
     public Set<TileAttribute> getAttributes();
 
+    /**
+     * Retrieve a read-only view of the attributes associated with this tile.
+     * Unlike {@link #getAttributes()}, nothing is copied, so the view reflects
+     * later changes to the attributes and should not be kept.
+     *
+     * @return the attributes
+     */
+    public default Set<TileAttribute> viewAttributes()
+    {
+        return getAttributes();
+    }
+
     @Override
     public boolean equals(Object obj);
 
@@ -16,6 +16,7 @@
 package org.syphr.wordplay.core.component;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -43,6 +44,9 @@ public class TileImpl implements Tile
 
     private final Set<TileAttribute> attributes = new HashSet<>();
 
+    @ToString.Exclude
+    private final Set<TileAttribute> attributeView = Collections.unmodifiableSet(attributes);
+
     protected TileImpl(@NonNull Location location, Piece piece)
     {
         this.location = location;
@@ -94,7 +98,16 @@ public class TileImpl implements Tile
     @Override
     public Set<TileAttribute> getAttributes()
     {
-        return Set.copyOf(attributes);
+        /*
+         * Most tiles have no attributes, so avoid copying an empty set.
+         */
+        return attributes.isEmpty() ? Set.of() : Set.copyOf(attributes);
+    }
+
+    @Override
+    public Set<TileAttribute> viewAttributes()
+    {
+        return attributeView;
     }
 
     @Override
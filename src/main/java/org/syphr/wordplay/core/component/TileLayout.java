@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.PackedLocation;
+
+/**
+ * The attributes of every tile on a board, copied once and shared by every
+ * {@link TileSetSnapshot} of the board, since taking a snapshot only needs to
+ * copy which pieces are where. Tiles are indexed in the same flat layout as
+ * {@link ArrayTileSet}.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class TileLayout
+{
+    private final Dimension dimension;
+    private final List<Set<TileAttribute>> attributes;
+
+    TileLayout(Dimension dimension, TileSet source)
+    {
+        this.dimension = dimension;
+
+        List<Set<TileAttribute>> copied = new ArrayList<>(dimension.width() * dimension.height() * dimension.depth());
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    copied.add(Set.copyOf(source.getTile(PackedLocation.pack(x, y, z)).viewAttributes()));
+                }
+            }
+        }
+        this.attributes = List.copyOf(copied);
+    }
+
+    Dimension getDimension()
+    {
+        return dimension;
+    }
+
+    /**
+     * Retrieve the number of tiles on the board.
+     *
+     * @return the size
+     */
+    int size()
+    {
+        return attributes.size();
+    }
+
+    /**
+     * Retrieve the index of the tile at the given packed location.
+     *
+     * @param packed the packed location
+     *
+     * @return the index or <code>-1</code> if the location is off the board
+     */
+    int indexOf(long packed)
+    {
+        return indexOf(PackedLocation.x(packed), PackedLocation.y(packed), PackedLocation.z(packed));
+    }
+
+    /**
+     * Retrieve the index of the tile at the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return the index or <code>-1</code> if the location is off the board
+     */
+    int indexOf(int x, int y, int z)
+    {
+        if (x < 0 || y < 0 || z < 0 || x >= dimension.width() || y >= dimension.height() || z >= dimension.depth()) {
+            return -1;
+        }
+
+        return x + dimension.width() * (y + dimension.height() * z);
+    }
+
+    /**
+     * Retrieve the location of the tile at the given index.
+     *
+     * @param index the index
+     *
+     * @return the location
+     */
+    Location getLocation(int index)
+    {
+        int x = index % dimension.width();
+        int y = index / dimension.width() % dimension.height();
+        int z = index / (dimension.width() * dimension.height());
+
+        return Location.at(x, y, z);
+    }
+
+    /**
+     * Retrieve the attributes of the tile at the given index.
+     *
+     * @param index the index
+     *
+     * @return the attributes
+     */
+    Set<TileAttribute> getAttributes(int index)
+    {
+        return attributes.get(index);
+    }
+}
@@ -24,6 +24,7 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import org.syphr.wordplay.core.config.TileAttribute;
 import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.PackedLocation;
 
 import lombok.NonNull;
 
@@ -42,7 +43,8 @@ public interface TileSet
 
     /**
      * Retrieve the tile at the given location. If no such tile exists, one will be
-     * created.
+     * created. Locations known to be off the board share a single empty tile that
+     * cannot be changed.
      *
      * @param location the location of the desired tile
      *
@@ -50,6 +52,49 @@ public interface TileSet
      */
     public Tile getTile(@NonNull Location location);
 
+    /**
+     * Determine whether or not the tile at the given location is occupied by a
+     * piece. Unlike {@link #getTile(Location)}, this never creates a tile.
+     *
+     * @param location the location to check
+     *
+     * @return <code>true</code> if a piece occupies the tile; <code>false</code>
+     *         otherwise
+     */
+    public boolean hasPiece(@NonNull Location location);
+
+    /**
+     * Retrieve the tile at the given {@link PackedLocation packed location}. The
+     * default implementation unpacks the location, so implementations that can
+     * find a tile from its coordinates should do so directly.
+     *
+     * @param packed the packed location of the desired tile
+     *
+     * @return the tile at the given location
+     *
+     * @see #getTile(Location)
+     */
+    public default Tile getTile(long packed)
+    {
+        return getTile(PackedLocation.unpack(packed));
+    }
+
+    /**
+     * Determine whether or not the tile at the given
+     * {@link PackedLocation packed location} is occupied by a piece.
+     *
+     * @param packed the packed location to check
+     *
+     * @return <code>true</code> if a piece occupies the tile; <code>false</code>
+     *         otherwise
+     *
+     * @see #hasPiece(Location)
+     */
+    public default boolean hasPiece(long packed)
+    {
+        return hasPiece(PackedLocation.unpack(packed));
+    }
+
     /**
      * Retrieve the subset of tiles which are occupied by pieces.
      *
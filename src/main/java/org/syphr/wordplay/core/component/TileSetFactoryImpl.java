@@ -18,6 +18,7 @@ package org.syphr.wordplay.core.component;
 import javax.annotation.concurrent.Immutable;
 
 import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.space.Dimension;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,13 @@ public class TileSetFactoryImpl implements TileSetFactory
     @Override
     public TileSet createTileSet()
     {
-        return new TileSetImpl(new TileFactoryImpl(configuration));
+        TileFactory tileFactory = new TileFactoryImpl(configuration);
+
+        Dimension dimension = configuration.getBoardDimension();
+        if (dimension == null) {
+            return new TileSetImpl(tileFactory);
+        }
+
+        return new ArrayTileSet(dimension, tileFactory);
     }
 }
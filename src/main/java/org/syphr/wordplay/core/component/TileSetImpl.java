@@ -25,19 +25,43 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
 import org.syphr.wordplay.core.space.Location;
 
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class TileSetImpl implements TileSet
 {
     private final ConcurrentMap<Location, Tile> tiles = new ConcurrentHashMap<>();
 
-    @NonNull
     private final TileFactory tileFactory;
 
+    private final Dimension dimension;
+
+    /**
+     * Construct a new tile set that creates a tile for any location requested.
+     *
+     * @param tileFactory the factory that creates each tile
+     */
+    public TileSetImpl(@NonNull TileFactory tileFactory)
+    {
+        this(tileFactory, null);
+    }
+
+    /**
+     * Construct a new tile set that only creates tiles on the board. All locations
+     * off the board share a single empty tile.
+     *
+     * @param tileFactory the factory that creates each tile
+     * @param dimension   the size of the board, or <code>null</code> to create a
+     *                    tile for any location requested
+     */
+    public TileSetImpl(@NonNull TileFactory tileFactory, Dimension dimension)
+    {
+        this.tileFactory = tileFactory;
+        this.dimension = dimension;
+    }
+
     @Override
     public void clear()
     {
@@ -47,9 +71,20 @@ public class TileSetImpl implements TileSet
     @Override
     public Tile getTile(@NonNull Location location)
     {
+        if (dimension != null && !dimension.contains(location)) {
+            return WallTile.INSTANCE;
+        }
+
         return tiles.computeIfAbsent(location, tileFactory::createTile);
     }
 
+    @Override
+    public boolean hasPiece(@NonNull Location location)
+    {
+        Tile tile = tiles.get(location);
+        return tile != null && tile.hasPiece();
+    }
+
     @Override
     public SortedSet<Tile> getOccupiedTiles()
     {
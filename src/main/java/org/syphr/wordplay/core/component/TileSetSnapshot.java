@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.PackedLocation;
+
+import lombok.NonNull;
+
+/**
+ * A copy of the tiles on a board as they were when the snapshot was taken. Only
+ * the pieces are copied, into a flat array like {@link ArrayTileSet}; the tile
+ * attributes are shared with every other snapshot of the board through its
+ * {@link TileLayout}. Neither the set nor its tiles can be changed, so any
+ * number of threads may read it without locking. All locations off the board
+ * share the {@link WallTile}.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class TileSetSnapshot implements TileSet
+{
+    private final TileLayout layout;
+    private final Piece[] pieces;
+
+    /**
+     * The tiles, each created the first time it is requested. Tiles are
+     * immutable, so a tile created by two threads at once is harmless.
+     */
+    private final Tile[] tiles;
+
+    TileSetSnapshot(TileLayout layout, TileSet source)
+    {
+        this.layout = layout;
+        this.pieces = new Piece[layout.size()];
+        this.tiles = new Tile[layout.size()];
+
+        Dimension dimension = layout.getDimension();
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    long packed = PackedLocation.pack(x, y, z);
+                    if (source.hasPiece(packed)) {
+                        pieces[layout.indexOf(x, y, z)] = source.getTile(packed).getPiece().orElseThrow();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear()
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public Tile getTile(@NonNull Location location)
+    {
+        int index = layout.indexOf(location.x(), location.y(), location.z());
+        return index < 0 ? WallTile.INSTANCE : getTile(index);
+    }
+
+    @Override
+    public boolean hasPiece(@NonNull Location location)
+    {
+        int index = layout.indexOf(location.x(), location.y(), location.z());
+        return index >= 0 && pieces[index] != null;
+    }
+
+    @Override
+    public Tile getTile(long packed)
+    {
+        int index = layout.indexOf(packed);
+        return index < 0 ? WallTile.INSTANCE : getTile(index);
+    }
+
+    @Override
+    public boolean hasPiece(long packed)
+    {
+        int index = layout.indexOf(packed);
+        return index >= 0 && pieces[index] != null;
+    }
+
+    @Override
+    public SortedSet<Tile> getOccupiedTiles()
+    {
+        SortedSet<Tile> occupied = new TreeSet<>();
+        for (int i = 0; i < pieces.length; i++) {
+            if (pieces[i] != null) {
+                occupied.add(getTile(i));
+            }
+        }
+
+        return occupied;
+    }
+
+    @Override
+    public Map<Location, List<TileAttribute>> getAttributes(@NonNull Set<Location> locations)
+    {
+        return locations.stream()
+                        .collect(Collectors.toMap(location -> location,
+                                                  location -> List.copyOf(getTile(location).getAttributes())));
+    }
+
+    private Tile getTile(int index)
+    {
+        Tile tile = tiles[index];
+        if (tile == null) {
+            tile = new TileSnapshot(layout.getLocation(index), pieces[index], layout.getAttributes(index));
+            tiles[index] = tile;
+        }
+
+        return tile;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * A tile as it was when a {@link TileSetSnapshot} was taken. It cannot be
+ * changed. Its attributes are shared with the other snapshots of the same board
+ * through their {@link TileLayout}.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class TileSnapshot implements Tile
+{
+    private final Location location;
+    private final Piece piece;
+    private final Set<TileAttribute> attributes;
+
+    TileSnapshot(Location location, Piece piece, Set<TileAttribute> attributes)
+    {
+        this.location = location;
+        this.piece = piece;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public Location getLocation()
+    {
+        return location;
+    }
+
+    @Override
+    public void setPiece(Piece piece)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public Optional<Piece> getPiece()
+    {
+        return Optional.ofNullable(piece);
+    }
+
+    @Override
+    public boolean hasPiece()
+    {
+        return piece != null;
+    }
+
+    @Override
+    public int getBaseValue()
+    {
+        return piece == null ? 0 : piece.getValue();
+    }
+
+    @Override
+    public void addAttribute(TileAttribute attribute)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public void addAttributes(Collection<TileAttribute> attributes)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public void removeAttribute(TileAttribute attribute)
+    {
+        throw new UnsupportedOperationException("A board snapshot cannot be changed");
+    }
+
+    @Override
+    public Set<TileAttribute> getAttributes()
+    {
+        return attributes;
+    }
+
+    @Override
+    public int compareTo(Tile o)
+    {
+        return location.compareTo(o.getLocation());
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return obj instanceof TileSnapshot other && location.equals(other.location);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return location.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TileSnapshot(location=" + location + ", piece=" + piece + ")";
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * The token returned by {@link Board#apply(Placement)}, which holds just enough
+ * to take the placement back off the board with {@link Board#revert(Undo)}: the
+ * locations that were filled and how many placements were applied before it.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public final class Undo
+{
+    private final Board board;
+    private final List<Location> locations;
+    private final int points;
+    private final int depth;
+
+    Undo(Board board, List<Location> locations, int points, int depth)
+    {
+        this.board = board;
+        this.locations = locations;
+        this.points = points;
+        this.depth = depth;
+    }
+
+    /**
+     * Retrieve the score earned by the applied placement.
+     *
+     * @return the points
+     */
+    public int getPoints()
+    {
+        return points;
+    }
+
+    Board getBoard()
+    {
+        return board;
+    }
+
+    List<Location> getLocations()
+    {
+        return locations;
+    }
+
+    int getDepth()
+    {
+        return depth;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * The tile returned by a tile set for every location off the board. It is
+ * always empty, has no attributes and cannot be changed, so a single instance is
+ * shared by all locations and no tile needs to be created or kept for them.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class WallTile implements Tile
+{
+    static final WallTile INSTANCE = new WallTile();
+
+    private WallTile()
+    {
+        /*
+         * Singleton
+         */
+    }
+
+    /**
+     * A wall tile stands in for every location off the board, so it has no
+     * location of its own.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Location getLocation()
+    {
+        throw new UnsupportedOperationException("A wall tile has no location");
+    }
+
+    @Override
+    public void setPiece(Piece piece)
+    {
+        throw new UnsupportedOperationException("A piece cannot be placed off the board");
+    }
+
+    @Override
+    public Optional<Piece> getPiece()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean hasPiece()
+    {
+        return false;
+    }
+
+    @Override
+    public int getBaseValue()
+    {
+        return 0;
+    }
+
+    @Override
+    public void addAttribute(TileAttribute attribute)
+    {
+        throw new UnsupportedOperationException("Attributes cannot be added off the board");
+    }
+
+    @Override
+    public void addAttributes(Collection<TileAttribute> attributes)
+    {
+        throw new UnsupportedOperationException("Attributes cannot be added off the board");
+    }
+
+    @Override
+    public void removeAttribute(TileAttribute attribute)
+    {
+        /*
+         * A wall tile never has attributes, so there is nothing to remove.
+         */
+    }
+
+    @Override
+    public Set<TileAttribute> getAttributes()
+    {
+        return Set.of();
+    }
+
+    @Override
+    public int compareTo(Tile o)
+    {
+        throw new UnsupportedOperationException("A wall tile has no location");
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return obj == this;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "WallTile";
+    }
+}
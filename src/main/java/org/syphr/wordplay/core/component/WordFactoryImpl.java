@@ -61,7 +61,7 @@ public class WordFactoryImpl implements WordFactory
         Location wordStart = startLocation;
         while (true) {
             Location newLocation = orientation.move(wordStart, -1);
-            if (!tileset.getTile(newLocation).hasPiece() && !pieces.containsKey(newLocation)) {
+            if (!tileset.hasPiece(newLocation) && !pieces.containsKey(newLocation)) {
                 break;
             }
 
@@ -80,7 +80,7 @@ public class WordFactoryImpl implements WordFactory
             text.append(letter.orElseThrow().toString());
 
             Location newLocation = orientation.move(wordEnd, 1);
-            if (!tileset.getTile(newLocation).hasPiece() && !pieces.containsKey(newLocation)) {
+            if (!tileset.hasPiece(newLocation) && !pieces.containsKey(newLocation)) {
                 break;
             }
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * Keys for hashing game state. Each piece on the board contributes a key for
+ * its location and letter, and the board hash is the exclusive or of those
+ * keys, so placing or removing a piece changes the hash by a single exclusive
+ * or. Pieces in a rack or the bag contribute a key for their letter alone, and
+ * since the same letter may appear more than once, those keys are added rather
+ * than combined with exclusive or.
+ * <p>
+ * Rather than drawing the keys from a table of random numbers, which would
+ * have to be sized for the largest board and alphabet, each key is computed by
+ * mixing its inputs with a fixed, well distributed function. The keys are the
+ * same on every run, so hashes may be stored and compared across games.
+ *
+ * @author Gregory P. Moyer
+ */
+public final class Zobrist
+{
+    private static final long TILE_SEED = 0x5A0B_7157_C0DE_0001L;
+    private static final long POOL_SEED = 0x5A0B_7157_C0DE_0002L;
+    private static final long RACK_SEED = 0x5A0B_7157_C0DE_0003L;
+    private static final long UNSEEN_SEED = 0x5A0B_7157_C0DE_0004L;
+
+    /**
+     * The symbol used for a wild piece with no letter, and added to the letter
+     * of a wild piece on the board so that it hashes differently from a natural
+     * piece of the same letter.
+     */
+    private static final int WILD = 1 << Character.SIZE;
+
+    private Zobrist()
+    {
+        /*
+         * Static utilities
+         */
+    }
+
+    /**
+     * Compute the key of a piece on the board.
+     *
+     * @param location the location of the piece
+     * @param piece    the piece
+     *
+     * @return the key
+     */
+    public static long tile(Location location, Piece piece)
+    {
+        long coordinates = mix(TILE_SEED + (((long) location.x() << 32) | (location.y() & 0xFFFFFFFFL)));
+        return mix(coordinates + (((long) location.z() << 32) | tileSymbol(piece)));
+    }
+
+    /**
+     * Compute the key of a piece in a rack or the bag. Wild pieces are
+     * interchangeable there, so their letter is ignored.
+     *
+     * @param piece the piece
+     *
+     * @return the key
+     */
+    public static long pool(Piece piece)
+    {
+        return piece.isWild() ? pool((Letter) null) : pool(piece.getLetter().orElse(null));
+    }
+
+    /**
+     * Compute the key of a letter in a rack or the bag.
+     *
+     * @param letter the letter, or <code>null</code> for a wild piece
+     *
+     * @return the key
+     */
+    public static long pool(Letter letter)
+    {
+        return mix(POOL_SEED + (letter == null ? WILD : letter.getCharacter()));
+    }
+
+    /**
+     * Combine the hashes of a position into one: the board, the rack of the
+     * player to move and the pieces that player cannot see.
+     *
+     * @param board  the board hash
+     * @param rack   the rack hash
+     * @param unseen the unseen pool hash
+     *
+     * @return the position hash
+     */
+    public static long combine(long board, long rack, long unseen)
+    {
+        return board ^ mix(RACK_SEED + rack) ^ mix(UNSEEN_SEED + unseen);
+    }
+
+    private static int tileSymbol(Piece piece)
+    {
+        int symbol = piece.getLetter().map(Letter::getCharacter).orElse('\0');
+        return piece.isWild() ? symbol | WILD : symbol;
+    }
+
+    /*
+     * The finalizer of the SplitMix64 generator.
+     */
+    private static long mix(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+}
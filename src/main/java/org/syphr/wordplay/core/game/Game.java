@@ -23,8 +23,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import org.syphr.wordplay.core.component.Bag;
 import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.Piece;
 import org.syphr.wordplay.core.component.Placement;
 import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.Rack;
+import org.syphr.wordplay.core.component.Zobrist;
 import org.syphr.wordplay.core.config.Configuration;
 import org.syphr.wordplay.core.player.Player;
 
@@ -136,6 +139,57 @@ public interface Game
      */
     public Play getLastPlay();
 
+    /**
+     * Retrieve a hash of the pieces on the board and where they are.
+     * 
+     * @return the board hash
+     * 
+     * @see Board#getHash()
+     */
+    public long getBoardHash();
+
+    /**
+     * Retrieve a hash of the pieces on the given player's rack.
+     * 
+     * @param player the player
+     * 
+     * @return the rack hash
+     * 
+     * @throws IllegalArgumentException if the player is not a member of this game
+     * 
+     * @see Rack#getHash()
+     */
+    public long getRackHash(Player player) throws IllegalArgumentException;
+
+    /**
+     * Retrieve a hash of the pieces the given player cannot see: those in the bag
+     * and on the racks of the other players. Like the rack hash, it is the sum of
+     * the {@link Zobrist#pool(Piece) Zobrist keys} of the pieces.
+     * 
+     * @param player the player
+     * 
+     * @return the unseen pool hash
+     * 
+     * @throws IllegalArgumentException if the player is not a member of this game
+     */
+    public long getUnseenHash(Player player) throws IllegalArgumentException;
+
+    /**
+     * Retrieve a hash that identifies the position from the point of view of the
+     * {@link #getCurrentPlayer() current player}: the board, that player's rack
+     * and the pieces that player cannot see. Positions that are the same for the
+     * player to move have the same hash, so it is suitable as a key for caching
+     * search results, such as in a transposition table or a
+     * {@link org.syphr.wordplay.core.cache.MultiLevelCache MultiLevelCache}.
+     * Before the game has started, there is no player to move and the rack hash
+     * is zero.
+     * 
+     * @return the position hash
+     * 
+     * @see Zobrist#combine(long, long, long)
+     */
+    public long getHash();
+
     /**
      * Determine whether or not this game has been started.
      * 
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.game;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.syphr.wordplay.core.component.Bag;
+import org.syphr.wordplay.core.component.NoSuchPieceException;
+import org.syphr.wordplay.core.component.Placement;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.player.Player;
+import org.syphr.wordplay.core.player.Robot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A game driver runs each game it is given in a loop on its own thread, asking
+ * a {@link PlacementSource} for each turn's placement until the game ends. A
+ * game is only ever touched by the thread running it.
+ * <p>
+ * The loop blocks while a placement source waits (for example on a human
+ * player), so a driver {@link #virtualThreads() backed by virtual threads} can
+ * run far more games at once than there are platform threads. Robot turns are
+ * computed by the robot scheduler's workers while the game's thread waits.
+ *
+ * @author Gregory P. Moyer
+ */
+@Slf4j
+@ThreadSafe
+public class GameDriver implements AutoCloseable
+{
+    /**
+     * The number of full rounds in which every player passes before a game is
+     * considered stuck and stopped.
+     */
+    private static final int MAX_PASS_ROUNDS = 2;
+
+    private final ExecutorService executor;
+
+    /**
+     * Create a driver that runs each game on a new virtual thread.
+     *
+     * @return the driver
+     */
+    public static GameDriver virtualThreads()
+    {
+        return new GameDriver(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Game ", 1).factory()));
+    }
+
+    /**
+     * Create a placement source that asks each player, which must be a
+     * {@link Robot}, for a placement found within the given time.
+     *
+     * @param turnLimit the maximum time for each turn
+     * @return the placement source
+     */
+    public static PlacementSource robots(Duration turnLimit)
+    {
+        return (game, player) -> {
+            if (!(player instanceof Robot robot)) {
+                throw new IllegalArgumentException("Player " + player.getId() + " is not a robot");
+            }
+
+            return robot.getPlacement(game.getBoard(), turnLimit).getPlacement().orElse(null);
+        };
+    }
+
+    /**
+     * Construct a new driver.
+     *
+     * @param executor the executor that runs each game loop
+     */
+    public GameDriver(ExecutorService executor)
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Start running the given game. Every player's rack is filled from the bag
+     * before the first turn and after each placement.
+     *
+     * @param game   the game
+     * @param source the source of each turn's placement
+     * @return the game once it has ended
+     */
+    public Future<Game> run(Game game, PlacementSource source)
+    {
+        return executor.submit(() -> drive(game, source));
+    }
+
+    private Game drive(Game game, PlacementSource source) throws InterruptedException,
+                                                                 PlacementException,
+                                                                 NoSuchPieceException
+    {
+        Bag bag = game.getBag();
+        for (Player player : game.getPlayers()) {
+            player.getRack().fill(bag);
+        }
+
+        int maxPasses = game.getPlayers().size() * MAX_PASS_ROUNDS;
+        int passes = 0;
+
+        game.nextTurn();
+        while (!game.isEnded() && passes < maxPasses) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            Player player = game.getCurrentPlayer();
+            Placement placement = source.getPlacement(game, player);
+            if (placement == null) {
+                log.trace("Player {} passed in game {}", player.getId(), game.getId());
+                passes++;
+            } else {
+                game.play(placement);
+                player.getRack().remove(placement.getPieces());
+                player.getRack().fill(bag);
+                passes = 0;
+            }
+
+            game.nextTurn();
+        }
+
+        log.debug("Game {} finished", game.getId());
+        return game;
+    }
+
+    /**
+     * Stop all running games and release the threads running them.
+     */
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+}
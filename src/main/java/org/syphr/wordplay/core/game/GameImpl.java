@@ -32,6 +32,7 @@ import org.syphr.wordplay.core.component.Placement;
 import org.syphr.wordplay.core.component.PlacementException;
 import org.syphr.wordplay.core.component.Rack;
 import org.syphr.wordplay.core.component.RackFactory;
+import org.syphr.wordplay.core.component.Zobrist;
 import org.syphr.wordplay.core.config.Configuration;
 import org.syphr.wordplay.core.event.EventBus;
 import org.syphr.wordplay.core.player.Player;
@@ -245,6 +246,57 @@ public class GameImpl implements Game
         return false;
     }
 
+    @Override
+    public long getBoardHash()
+    {
+        return getBoard().getHash();
+    }
+
+    @Override
+    public long getRackHash(Player player) throws IllegalArgumentException
+    {
+        verifyMember(player);
+        return player.getRack().getHash();
+    }
+
+    @Override
+    public long getUnseenHash(Player player) throws IllegalArgumentException
+    {
+        verifyMember(player);
+
+        long hash = getBag().getHash();
+        for (Player other : players) {
+            if (!other.equals(player)) {
+                hash += other.getRack().getHash();
+            }
+        }
+
+        return hash;
+    }
+
+    @Override
+    public long getHash()
+    {
+        Player player = getCurrentPlayer();
+        if (player == null) {
+            long unseen = getBag().getHash();
+            for (Player other : players) {
+                unseen += other.getRack().getHash();
+            }
+
+            return Zobrist.combine(getBoardHash(), 0L, unseen);
+        }
+
+        return Zobrist.combine(getBoardHash(), getRackHash(player), getUnseenHash(player));
+    }
+
+    private void verifyMember(Player player)
+    {
+        if (!players.contains(player)) {
+            throw new IllegalArgumentException("Player " + player + " is not a member of this game");
+        }
+    }
+
     protected void fireTurnStarted()
     {
         EventBus.post(new TurnStartEvent(this));
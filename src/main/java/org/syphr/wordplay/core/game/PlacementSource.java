@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.game;
+
+import org.syphr.wordplay.core.component.Placement;
+import org.syphr.wordplay.core.player.Player;
+
+/**
+ * A placement source provides the placement for each turn of a game run by a
+ * {@link GameDriver}. Implementations may block, for example while waiting for
+ * a human player to move.
+ *
+ * @author Gregory P. Moyer
+ */
+@FunctionalInterface
+public interface PlacementSource
+{
+    /**
+     * Retrieve the given player's placement for the current turn.
+     *
+     * @param game   the game
+     * @param player the player whose turn it is
+     * @return the placement or <code>null</code> to pass
+     * @throws InterruptedException if the calling thread is interrupted while
+     *             waiting for the placement
+     */
+    public Placement getPlacement(Game game, Player player) throws InterruptedException;
+}
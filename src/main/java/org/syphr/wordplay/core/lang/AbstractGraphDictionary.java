@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The base of dictionaries whose words are stored as a {@link WordGraph} in
+ * which every path from the root is a prefix and words end at terminal nodes.
+ * Lookups walk the graph and do not allocate.
+ *
+ * @author Gregory P. Moyer
+ */
+abstract class AbstractGraphDictionary implements Dictionary, WordGraph
+{
+    private final Set<String> words = new WordSet();
+
+    /**
+     * Retrieve the number of words in this dictionary.
+     *
+     * @return the word count
+     */
+    protected abstract int getWordCount();
+
+    /**
+     * Retrieve the length of the longest word in this dictionary.
+     *
+     * @return the maximum word length
+     */
+    protected abstract int getMaxLength();
+
+    @Override
+    public boolean isValid(String word)
+    {
+        int node = walk(getRoot(), word);
+        return node != NONE && isTerminal(node);
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix)
+    {
+        return walk(getRoot(), prefix) != NONE;
+    }
+
+    @Override
+    public SortedSet<Character> getNextCharacters(CharSequence prefix)
+    {
+        SortedSet<Character> characters = new TreeSet<>();
+
+        int node = walk(getRoot(), prefix);
+        if (node != NONE) {
+            for (int i = 0; i < getEdgeCount(node); i++) {
+                characters.add(getEdgeCharacter(node, i));
+            }
+        }
+
+        return characters;
+    }
+
+    /**
+     * Retrieve the words in this dictionary. The returned set is an unmodifiable
+     * view of the graph that enumerates words in ascending order.
+     */
+    @Override
+    public Set<String> getWords()
+    {
+        return words;
+    }
+
+    private class WordSet extends AbstractSet<String>
+    {
+        @Override
+        public boolean contains(Object o)
+        {
+            return o instanceof String word && isValid(word);
+        }
+
+        @Override
+        public int size()
+        {
+            return getWordCount();
+        }
+
+        @Override
+        public Iterator<String> iterator()
+        {
+            return new WordIterator();
+        }
+    }
+
+    /**
+     * A depth-first walk of the graph that stops at each terminal node in turn.
+     */
+    private class WordIterator implements Iterator<String>
+    {
+        private final int[] nodes = new int[getMaxLength() + 1];
+        private final int[] edges = new int[getMaxLength() + 1];
+        private final StringBuilder word = new StringBuilder();
+
+        private int depth;
+        private String next;
+
+        public WordIterator()
+        {
+            nodes[0] = getRoot();
+            next = isTerminal(nodes[0]) ? "" : advance();
+        }
+
+        private String advance()
+        {
+            while (depth >= 0) {
+                int node = nodes[depth];
+                if (edges[depth] == getEdgeCount(node)) {
+                    depth--;
+                    continue;
+                }
+
+                int edge = edges[depth]++;
+                word.setLength(depth);
+                word.append(getEdgeCharacter(node, edge));
+
+                depth++;
+                nodes[depth] = getEdgeTarget(node, edge);
+                edges[depth] = 0;
+
+                if (isTerminal(nodes[depth])) {
+                    return word.toString();
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        @Override
+        public String next()
+        {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            String current = next;
+            next = advance();
+            return current;
+        }
+    }
+}
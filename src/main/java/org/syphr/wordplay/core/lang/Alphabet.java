@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * An alphabet assigns each character used by a dictionary a small index so that
+ * sets of characters can be stored as the bits of a single <code>long</code>.
+ * Indices follow ascending character order.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public final class Alphabet
+{
+    /**
+     * The largest number of characters an alphabet may contain.
+     */
+    public static final int MAX_SIZE = Long.SIZE;
+
+    /**
+     * Alphabets of dictionaries, kept for as long as the dictionary itself is
+     * reachable.
+     */
+    private static final Cache<Dictionary, Alphabet> ALPHABETS = CacheBuilder.newBuilder().weakKeys().build();
+
+    private final char[] characters;
+
+    /**
+     * Retrieve the alphabet of every character used by the words of the given
+     * dictionary. It is computed the first time it is requested for each
+     * dictionary.
+     *
+     * @param dictionary the dictionary
+     *
+     * @return the alphabet of the dictionary
+     *
+     * @throws IllegalArgumentException if the dictionary uses more than
+     *                                  {@link #MAX_SIZE} characters
+     */
+    public static Alphabet of(Dictionary dictionary)
+    {
+        try {
+            return ALPHABETS.get(dictionary, () -> {
+                StringBuilder characters = new StringBuilder();
+                for (String word : dictionary.getWords()) {
+                    characters.append(word);
+                }
+
+                return of(characters);
+            });
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException iae) {
+                throw iae;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Create an alphabet of the distinct characters in the given sequence.
+     *
+     * @param characters the characters
+     *
+     * @return the alphabet
+     *
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE}
+     *                                  distinct characters
+     */
+    public static Alphabet of(CharSequence characters)
+    {
+        char[] distinct = characters.chars().sorted().distinct().collect(StringBuilder::new,
+                                                                         StringBuilder::appendCodePoint,
+                                                                         StringBuilder::append)
+                                    .toString()
+                                    .toCharArray();
+        if (distinct.length > MAX_SIZE) {
+            throw new IllegalArgumentException("Alphabets are limited to "
+                                               + MAX_SIZE
+                                               + " characters, found "
+                                               + distinct.length);
+        }
+
+        return new Alphabet(distinct);
+    }
+
+    private Alphabet(char[] characters)
+    {
+        this.characters = characters;
+    }
+
+    /**
+     * Retrieve the number of characters in this alphabet.
+     *
+     * @return the size
+     */
+    public int size()
+    {
+        return characters.length;
+    }
+
+    /**
+     * Retrieve the character at the given index.
+     *
+     * @param index the index, from zero (inclusive) to {@link #size()}
+     *              (exclusive)
+     *
+     * @return the character
+     */
+    public char getCharacter(int index)
+    {
+        return characters[index];
+    }
+
+    /**
+     * Find the index of the given character.
+     *
+     * @param character the character to find
+     *
+     * @return the index or <code>-1</code> if the character is not in this
+     *         alphabet
+     */
+    public int indexOf(char character)
+    {
+        int index = Arrays.binarySearch(characters, character);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Retrieve the bit that represents the given character in a set.
+     *
+     * @param character the character
+     *
+     * @return a mask with only the character's bit set, or zero if the character
+     *         is not in this alphabet
+     */
+    public long getMask(char character)
+    {
+        int index = indexOf(character);
+        return index < 0 ? 0L : 1L << index;
+    }
+
+    /**
+     * Retrieve a set containing every character in this alphabet.
+     *
+     * @return a mask with one bit set per character
+     */
+    public long getFullMask()
+    {
+        return characters.length == MAX_SIZE ? -1L : (1L << characters.length) - 1;
+    }
+
+    @Override
+    public String toString()
+    {
+        return new String(characters);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A minimal, acyclic automaton stored in flat arrays. The edges of node
+ * <code>n</code> occupy indices <code>firstEdge[n]</code> (inclusive) through
+ * <code>firstEdge[n + 1]</code> (exclusive) of the edge arrays and are sorted by
+ * character, so following an edge is a binary search over at most the size of
+ * the alphabet.
+ * <p>
+ * Instances are created by {@link AutomatonBuilder}.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+final class Automaton implements WordGraph
+{
+    /**
+     * Typical object and array header sizes on a 64-bit JVM with compressed
+     * references.
+     */
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+
+    private final int[] firstEdge;
+    private final char[] edgeCharacters;
+    private final int[] edgeTargets;
+    private final BitSet terminals;
+    private final int sequenceCount;
+    private final int maxLength;
+
+    Automaton(int[] firstEdge,
+              char[] edgeCharacters,
+              int[] edgeTargets,
+              BitSet terminals,
+              int sequenceCount,
+              int maxLength)
+    {
+        this.firstEdge = firstEdge;
+        this.edgeCharacters = edgeCharacters;
+        this.edgeTargets = edgeTargets;
+        this.terminals = terminals;
+        this.sequenceCount = sequenceCount;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public int getRoot()
+    {
+        return 0;
+    }
+
+    @Override
+    public int getChild(int node, char character)
+    {
+        int index = Arrays.binarySearch(edgeCharacters, firstEdge[node], firstEdge[node + 1], character);
+        return index < 0 ? NONE : edgeTargets[index];
+    }
+
+    @Override
+    public boolean isTerminal(int node)
+    {
+        return terminals.get(node);
+    }
+
+    @Override
+    public int getEdgeCount(int node)
+    {
+        return firstEdge[node + 1] - firstEdge[node];
+    }
+
+    @Override
+    public char getEdgeCharacter(int node, int index)
+    {
+        return edgeCharacters[firstEdge[node] + index];
+    }
+
+    @Override
+    public int getEdgeTarget(int node, int index)
+    {
+        return edgeTargets[firstEdge[node] + index];
+    }
+
+    /**
+     * Retrieve the number of nodes in this automaton.
+     *
+     * @return the node count
+     */
+    public int getNodeCount()
+    {
+        return firstEdge.length - 1;
+    }
+
+    /**
+     * Retrieve the number of edges in this automaton.
+     *
+     * @return the edge count
+     */
+    public int getEdgeCount()
+    {
+        return edgeCharacters.length;
+    }
+
+    /**
+     * Estimate the number of bytes this automaton occupies on the heap.
+     *
+     * @return the approximate memory footprint in bytes
+     */
+    public long getMemoryFootprint()
+    {
+        return OBJECT_HEADER
+               + 6 * Integer.BYTES
+               + arrayFootprint(Integer.BYTES, firstEdge.length)
+               + arrayFootprint(Character.BYTES, edgeCharacters.length)
+               + arrayFootprint(Integer.BYTES, edgeTargets.length)
+               + OBJECT_HEADER
+               + arrayFootprint(Long.BYTES, (terminals.size() + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static long arrayFootprint(int elementBytes, int length)
+    {
+        return ARRAY_HEADER + (long) elementBytes * length;
+    }
+
+    /**
+     * Retrieve the number of distinct sequences accepted by this automaton.
+     *
+     * @return the sequence count
+     */
+    public int getSequenceCount()
+    {
+        return sequenceCount;
+    }
+
+    /**
+     * Retrieve the length of the longest sequence accepted by this automaton.
+     *
+     * @return the maximum sequence length
+     */
+    public int getMaxLength()
+    {
+        return maxLength;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * This builder creates a minimal {@link Automaton} from sequences added in
+ * ascending order, using the incremental algorithm described by Daciuk et al.
+ * Whenever a new sequence diverges from the previous one, the states that only
+ * belonged to the previous sequence can no longer change, so each of them is
+ * either replaced by an equivalent state seen before or registered as a new
+ * one. The builder therefore never holds more than the minimal automaton plus
+ * the path of the last sequence.
+ *
+ * @author Gregory P. Moyer
+ */
+@NotThreadSafe
+class AutomatonBuilder
+{
+    private final State root = new State();
+    private final Map<State, State> register = new HashMap<>();
+
+    /**
+     * The states along the path of the previous sequence, starting with the root.
+     */
+    private final List<State> path = new ArrayList<>();
+
+    private String previous;
+    private int sequenceCount;
+    private int maxLength;
+
+    public AutomatonBuilder()
+    {
+        path.add(root);
+    }
+
+    /**
+     * Add a sequence to the automaton. Sequences must be added in ascending order
+     * (see {@link String#compareTo(String)}); duplicates of the previous sequence
+     * are ignored.
+     *
+     * @param sequence the sequence to add
+     *
+     * @throws IllegalArgumentException if the sequence sorts before the previous
+     *                                  sequence
+     */
+    public void add(CharSequence sequence)
+    {
+        String current = sequence.toString();
+        if (previous != null) {
+            int comparison = current.compareTo(previous);
+            if (comparison < 0) {
+                throw new IllegalArgumentException("Sequences must be added in order: \""
+                                                   + current
+                                                   + "\" follows \""
+                                                   + previous
+                                                   + "\"");
+            }
+            if (comparison == 0) {
+                return;
+            }
+        }
+
+        int common = 0;
+        if (previous != null) {
+            int limit = Math.min(current.length(), previous.length());
+            while (common < limit && current.charAt(common) == previous.charAt(common)) {
+                common++;
+            }
+        }
+
+        minimize(common);
+
+        State state = path.get(common);
+        for (int i = common; i < current.length(); i++) {
+            State next = new State();
+            state.characters.append(current.charAt(i));
+            state.targets.add(next);
+            path.add(next);
+            state = next;
+        }
+        state.terminal = true;
+
+        previous = current;
+        sequenceCount++;
+        maxLength = Math.max(maxLength, current.length());
+    }
+
+    /**
+     * Replace or register every state along the previous path that lies deeper
+     * than the given depth.
+     */
+    private void minimize(int depth)
+    {
+        for (int i = path.size() - 1; i > depth; i--) {
+            State child = path.remove(i);
+            State parent = path.get(i - 1);
+
+            State existing = register.putIfAbsent(child, child);
+            if (existing != null) {
+                parent.targets.set(parent.targets.size() - 1, existing);
+            }
+        }
+    }
+
+    /**
+     * Finish the automaton. The builder must not be used afterwards.
+     *
+     * @return the minimal automaton accepting every sequence added
+     */
+    public Automaton build()
+    {
+        minimize(0);
+        register.clear();
+
+        return freeze(root, sequenceCount, maxLength);
+    }
+
+    /**
+     * Combine automata that were built separately into one minimal automaton. The
+     * root of the result has one edge per given automaton, so it accepts each
+     * sequence of automaton <code>i</code> prefixed with character
+     * <code>i</code>. States that are equivalent across the given automata are
+     * merged.
+     *
+     * @param characters the first character of the sequences of each automaton, in
+     *                   ascending order
+     * @param automata   the automata to combine
+     *
+     * @return the minimal automaton accepting the combined sequences
+     */
+    public static Automaton union(char[] characters, Automaton[] automata)
+    {
+        Map<State, State> register = new HashMap<>();
+        State root = new State();
+        int sequenceCount = 0;
+        int maxLength = 0;
+
+        for (int i = 0; i < automata.length; i++) {
+            Automaton automaton = automata[i];
+            State[] states = new State[automaton.getNodeCount()];
+
+            root.characters.append(characters[i]);
+            root.targets.add(register(automaton, automaton.getRoot(), states, register));
+
+            sequenceCount += automaton.getSequenceCount();
+            maxLength = Math.max(maxLength, automaton.getMaxLength() + 1);
+        }
+
+        return freeze(root, sequenceCount, maxLength);
+    }
+
+    /*
+     * Convert the given node and everything below it into registered states, from
+     * the bottom up.
+     */
+    private static State register(Automaton automaton, int node, State[] states, Map<State, State> register)
+    {
+        if (states[node] != null) {
+            return states[node];
+        }
+
+        State state = new State();
+        state.terminal = automaton.isTerminal(node);
+        for (int i = 0; i < automaton.getEdgeCount(node); i++) {
+            state.characters.append(automaton.getEdgeCharacter(node, i));
+            state.targets.add(register(automaton, automaton.getEdgeTarget(node, i), states, register));
+        }
+
+        State existing = register.putIfAbsent(state, state);
+        states[node] = existing == null ? state : existing;
+
+        return states[node];
+    }
+
+    private static Automaton freeze(State root, int sequenceCount, int maxLength)
+    {
+        /*
+         * Number the states breadth first so that the root is always zero.
+         */
+        Map<State, Integer> ids = new IdentityHashMap<>();
+        List<State> states = new ArrayList<>();
+        Deque<State> queue = new ArrayDeque<>();
+        ids.put(root, 0);
+        states.add(root);
+        queue.add(root);
+
+        int edgeCount = 0;
+        while (!queue.isEmpty()) {
+            State state = queue.remove();
+            edgeCount += state.targets.size();
+
+            for (State target : state.targets) {
+                if (!ids.containsKey(target)) {
+                    ids.put(target, states.size());
+                    states.add(target);
+                    queue.add(target);
+                }
+            }
+        }
+
+        int[] firstEdge = new int[states.size() + 1];
+        char[] edgeCharacters = new char[edgeCount];
+        int[] edgeTargets = new int[edgeCount];
+        BitSet terminals = new BitSet(states.size());
+
+        int edge = 0;
+        for (int n = 0; n < states.size(); n++) {
+            State state = states.get(n);
+            firstEdge[n] = edge;
+            terminals.set(n, state.terminal);
+
+            for (int e = 0; e < state.targets.size(); e++) {
+                edgeCharacters[edge] = state.characters.charAt(e);
+                edgeTargets[edge] = ids.get(state.targets.get(e));
+                edge++;
+            }
+        }
+        firstEdge[states.size()] = edge;
+
+        return new Automaton(firstEdge, edgeCharacters, edgeTargets, terminals, sequenceCount, maxLength);
+    }
+
+    /**
+     * A mutable state used while building. Two states are equal when they share
+     * terminality and the same edges to the same (already unique) targets, which
+     * makes them interchangeable.
+     */
+    private static class State
+    {
+        private final StringBuilder characters = new StringBuilder(2);
+        private final List<State> targets = new ArrayList<>(2);
+        private boolean terminal;
+
+        @Override
+        public int hashCode()
+        {
+            int hash = Boolean.hashCode(terminal);
+            for (int i = 0; i < targets.size(); i++) {
+                hash = 31 * (31 * hash + characters.charAt(i)) + System.identityHashCode(targets.get(i));
+            }
+
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof State other)) {
+                return false;
+            }
+            if (terminal != other.terminal || targets.size() != other.targets.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < targets.size(); i++) {
+                if (characters.charAt(i) != other.characters.charAt(i) || targets.get(i) != other.targets.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A dictionary backed by a directed acyclic word graph (DAWG): a trie in which
+ * identical suffixes are shared. Looking up a word or prefix takes time
+ * proportional to its length and does not allocate, and the graph is stored in
+ * a few flat arrays rather than as individual strings.
+ * <p>
+ * The graph is also exposed directly (see {@link WordGraph}) so that move
+ * generators can extend words one letter at a time.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public class DawgDictionary extends AbstractGraphDictionary
+{
+    private final Automaton automaton;
+
+    /**
+     * Build a dictionary from the given words. The words do not need to be sorted
+     * or unique.
+     *
+     * @param words the words to include
+     *
+     * @return the new dictionary
+     */
+    public static DawgDictionary of(Collection<String> words)
+    {
+        AutomatonBuilder builder = new AutomatonBuilder();
+        for (String word : new TreeSet<>(words)) {
+            builder.add(word);
+        }
+
+        return new DawgDictionary(builder.build());
+    }
+
+    DawgDictionary(Automaton automaton)
+    {
+        this.automaton = automaton;
+    }
+
+    Automaton getAutomaton()
+    {
+        return automaton;
+    }
+
+    @Override
+    protected int getWordCount()
+    {
+        return automaton.getSequenceCount();
+    }
+
+    @Override
+    protected int getMaxLength()
+    {
+        return automaton.getMaxLength();
+    }
+
+    @Override
+    public int getRoot()
+    {
+        return automaton.getRoot();
+    }
+
+    @Override
+    public int getChild(int node, char character)
+    {
+        return automaton.getChild(node, character);
+    }
+
+    @Override
+    public boolean isTerminal(int node)
+    {
+        return automaton.isTerminal(node);
+    }
+
+    @Override
+    public int getEdgeCount(int node)
+    {
+        return automaton.getEdgeCount(node);
+    }
+
+    @Override
+    public char getEdgeCharacter(int node, int index)
+    {
+        return automaton.getEdgeCharacter(node, index);
+    }
+
+    @Override
+    public int getEdgeTarget(int node, int index)
+    {
+        return automaton.getEdgeTarget(node, index);
+    }
+
+    /**
+     * Retrieve the number of nodes in the underlying graph.
+     *
+     * @return the node count
+     */
+    public int getNodeCount()
+    {
+        return automaton.getNodeCount();
+    }
+
+    /**
+     * Estimate the number of bytes the underlying graph occupies on the heap.
+     *
+     * @return the approximate memory footprint in bytes
+     */
+    public long getMemoryFootprint()
+    {
+        return automaton.getMemoryFootprint();
+    }
+}
@@ -16,6 +16,8 @@
 package org.syphr.wordplay.core.lang;
 
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -44,4 +46,55 @@ public interface Dictionary
      * @return the words in this dictionary
      */
     public Set<String> getWords();
+
+    /**
+     * Determine whether or not the given sequence is the beginning of at least one
+     * word in this dictionary. Every valid word is a prefix of itself.
+     * <p>
+     * The default implementation searches every word, so implementations that can
+     * navigate their words by prefix (such as {@link DawgDictionary}) should
+     * override it.
+     *
+     * @param prefix the sequence to check
+     *
+     * @return <code>true</code> if at least one word begins with the given
+     *         sequence; <code>false</code> otherwise
+     */
+    public default boolean isPrefix(CharSequence prefix)
+    {
+        String start = prefix.toString();
+        for (String word : getWords()) {
+            if (word.startsWith(start)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Retrieve every character that can directly follow the given prefix in at
+     * least one word of this dictionary.
+     * <p>
+     * The default implementation searches every word, so implementations that can
+     * navigate their words by prefix (such as {@link DawgDictionary}) should
+     * override it.
+     *
+     * @param prefix the beginning of a word
+     *
+     * @return the characters that may follow the prefix; empty if the given
+     *         sequence is not a prefix or only completes words
+     */
+    public default SortedSet<Character> getNextCharacters(CharSequence prefix)
+    {
+        String start = prefix.toString();
+        SortedSet<Character> characters = new TreeSet<>();
+        for (String word : getWords()) {
+            if (word.length() > start.length() && word.startsWith(start)) {
+                characters.add(word.charAt(start.length()));
+            }
+        }
+
+        return characters;
+    }
 }
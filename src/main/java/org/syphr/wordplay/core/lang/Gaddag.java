@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A GADDAG is a word graph that allows a word to be spelled starting from any of
+ * its letters. For every way of splitting a word into a non-empty prefix and a
+ * suffix, the graph contains the prefix reversed, followed by
+ * {@link #SEPARATOR}, followed by the suffix. For example, "CAT" is stored as
+ * "C&gt;AT", "AC&gt;T" and "TAC&gt;", where "&gt;" is the separator.
+ * <p>
+ * This lets a move generator start at an anchor, grow a word backwards as far
+ * as it likes, then follow the separator and grow it forwards, without guessing
+ * where the word begins. Words end at terminal nodes, which are only reachable
+ * after the separator.
+ * <p>
+ * The graph holds roughly as many paths as there are letters in the
+ * dictionary, so it is larger than a {@link DawgDictionary} of the same words
+ * (see {@link #getMemoryFootprint()}). Building it is split by the first
+ * character of each path so that the work runs in parallel.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public class Gaddag implements WordGraph
+{
+    /**
+     * The edge label that separates the reversed prefix of a word from its
+     * suffix.
+     */
+    public static final char SEPARATOR = '\u0000';
+
+    private final Automaton automaton;
+    private final int wordCount;
+
+    /**
+     * Build a GADDAG from the given words. The words do not need to be sorted or
+     * unique, and empty words are ignored.
+     *
+     * @param words the words to include
+     *
+     * @return the new GADDAG
+     */
+    public static Gaddag of(Collection<String> words)
+    {
+        String[] sorted = words.stream().filter(word -> !word.isEmpty()).sorted().distinct().toArray(String[]::new);
+
+        TreeSet<Character> characterSet = new TreeSet<>();
+        for (String word : sorted) {
+            for (int i = 0; i < word.length(); i++) {
+                characterSet.add(word.charAt(i));
+            }
+        }
+
+        char[] characters = new char[characterSet.size()];
+        int index = 0;
+        for (Character character : characterSet) {
+            characters[index++] = character;
+        }
+
+        Automaton[] partitions = IntStream.range(0, characters.length)
+                                          .parallel()
+                                          .mapToObj(i -> buildPartition(sorted, characters[i]))
+                                          .toArray(Automaton[]::new);
+
+        return new Gaddag(AutomatonBuilder.union(characters, partitions), sorted.length);
+    }
+
+    /*
+     * Build the part of the graph below the root edge labeled with the given
+     * character, which holds every path that starts with it.
+     */
+    private static Automaton buildPartition(String[] words, char first)
+    {
+        List<String> sequences = new ArrayList<>();
+        StringBuilder sequence = new StringBuilder();
+
+        for (String word : words) {
+            for (int split = 1; split <= word.length(); split++) {
+                if (word.charAt(split - 1) != first) {
+                    continue;
+                }
+
+                sequence.setLength(0);
+                for (int i = split - 2; i >= 0; i--) {
+                    sequence.append(word.charAt(i));
+                }
+                sequence.append(SEPARATOR).append(word, split, word.length());
+
+                sequences.add(sequence.toString());
+            }
+        }
+
+        sequences.sort(null);
+
+        AutomatonBuilder builder = new AutomatonBuilder();
+        for (String s : sequences) {
+            builder.add(s);
+        }
+
+        return builder.build();
+    }
+
+    Gaddag(Automaton automaton, int wordCount)
+    {
+        this.automaton = automaton;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Determine whether or not the given word is in this graph.
+     *
+     * @param word the word to check
+     *
+     * @return <code>true</code> if the word is present; <code>false</code>
+     *         otherwise
+     */
+    public boolean contains(CharSequence word)
+    {
+        if (word.isEmpty()) {
+            return false;
+        }
+
+        int node = automaton.getRoot();
+        for (int i = word.length() - 1; i >= 0 && node != NONE; i--) {
+            node = automaton.getChild(node, word.charAt(i));
+        }
+        if (node != NONE) {
+            node = automaton.getChild(node, SEPARATOR);
+        }
+
+        return node != NONE && automaton.isTerminal(node);
+    }
+
+    @Override
+    public int getRoot()
+    {
+        return automaton.getRoot();
+    }
+
+    @Override
+    public int getChild(int node, char character)
+    {
+        return automaton.getChild(node, character);
+    }
+
+    @Override
+    public boolean isTerminal(int node)
+    {
+        return automaton.isTerminal(node);
+    }
+
+    @Override
+    public int getEdgeCount(int node)
+    {
+        return automaton.getEdgeCount(node);
+    }
+
+    @Override
+    public char getEdgeCharacter(int node, int index)
+    {
+        return automaton.getEdgeCharacter(node, index);
+    }
+
+    @Override
+    public int getEdgeTarget(int node, int index)
+    {
+        return automaton.getEdgeTarget(node, index);
+    }
+
+    /**
+     * Retrieve the number of distinct words in this graph.
+     *
+     * @return the word count
+     */
+    public int getWordCount()
+    {
+        return wordCount;
+    }
+
+    /**
+     * Retrieve the number of nodes in this graph.
+     *
+     * @return the node count
+     */
+    public int getNodeCount()
+    {
+        return automaton.getNodeCount();
+    }
+
+    /**
+     * Estimate the number of bytes this graph occupies on the heap.
+     *
+     * @return the approximate memory footprint in bytes
+     */
+    public long getMemoryFootprint()
+    {
+        return automaton.getMemoryFootprint();
+    }
+}
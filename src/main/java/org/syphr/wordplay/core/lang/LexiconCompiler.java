@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+
+/**
+ * This compiler writes dictionaries to the binary lexicon format read by
+ * {@link MappedDictionary}. Compiling once and mapping the result avoids
+ * rebuilding the dictionary from a word list every time a JVM starts.
+ * <p>
+ * An existing lexicon is replaced by writing a new file beside it and moving
+ * that over the original, so dictionaries that already map the original keep
+ * reading it unchanged.
+ *
+ * @author Gregory P. Moyer
+ */
+public final class LexiconCompiler
+{
+    /**
+     * Compile the words of the given dictionary.
+     *
+     * @param dictionary the dictionary to compile
+     * @param file       the file to write; it is replaced if it exists
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static void compile(Dictionary dictionary, Path file) throws IOException
+    {
+        DawgDictionary dawg = dictionary instanceof DawgDictionary d ? d : DawgDictionary.of(dictionary.getWords());
+        write(dawg.getAutomaton(), file);
+    }
+
+    /**
+     * Compile the given words. The words do not need to be sorted or unique.
+     *
+     * @param words the words to compile
+     * @param file  the file to write; it is replaced if it exists
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public static void compile(Collection<String> words, Path file) throws IOException
+    {
+        write(DawgDictionary.of(words).getAutomaton(), file);
+    }
+
+    private static void write(Automaton automaton, Path file) throws IOException
+    {
+        /*
+         * Rewriting the file in place would pull it out from under any mapping of it,
+         * here or in another process.
+         */
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            writeLexicon(automaton, temp);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeLexicon(Automaton automaton, Path file) throws IOException
+    {
+        int nodeCount = automaton.getNodeCount();
+
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(LexiconFormat.MAGIC);
+            out.writeInt(LexiconFormat.VERSION);
+            out.writeInt(nodeCount);
+            out.writeInt(automaton.getEdgeCount());
+            out.writeInt(automaton.getSequenceCount());
+            out.writeInt(automaton.getMaxLength());
+
+            int edge = 0;
+            for (int node = 0; node < nodeCount; node++) {
+                out.writeInt(edge);
+                edge += automaton.getEdgeCount(node);
+            }
+            out.writeInt(edge);
+
+            for (int node = 0; node < nodeCount; node++) {
+                for (int i = 0; i < automaton.getEdgeCount(node); i++) {
+                    out.writeInt(automaton.getEdgeTarget(node, i));
+                }
+            }
+
+            for (int node = 0; node < nodeCount; node++) {
+                for (int i = 0; i < automaton.getEdgeCount(node); i++) {
+                    out.writeChar(automaton.getEdgeCharacter(node, i));
+                }
+            }
+
+            for (int node = 0; node < nodeCount; node += 8) {
+                int flags = 0;
+                for (int bit = 0; bit < 8 && node + bit < nodeCount; bit++) {
+                    if (automaton.isTerminal(node + bit)) {
+                        flags |= 1 << bit;
+                    }
+                }
+                out.writeByte(flags);
+            }
+        }
+    }
+
+    private LexiconCompiler()
+    {
+        /*
+         * Static utilities
+         */
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+/**
+ * The layout of a compiled lexicon file. All values are big-endian.
+ *
+ * <pre>
+ * offset  size            content
+ * 0       4               magic number ("WPLX")
+ * 4       4               format version
+ * 8       4               node count (n)
+ * 12      4               edge count (e)
+ * 16      4               word count
+ * 20      4               maximum word length
+ * 24      4 * (n + 1)     index of the first edge of each node, then e
+ * ...     4 * e           target node of each edge
+ * ...     2 * e           character of each edge
+ * ...     (n + 7) / 8     terminal flag of each node, one bit per node
+ * </pre>
+ *
+ * The edges of each node are sorted by character and the root is node zero.
+ *
+ * @author Gregory P. Moyer
+ */
+final class LexiconFormat
+{
+    public static final int MAGIC = 0x57504C58;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 24;
+
+    public static long getSize(int nodeCount, int edgeCount)
+    {
+        return HEADER_SIZE
+               + (long) Integer.BYTES * (nodeCount + 1)
+               + (long) Integer.BYTES * edgeCount
+               + (long) Character.BYTES * edgeCount
+               + (nodeCount + 7) / 8;
+    }
+
+    private LexiconFormat()
+    {
+        /*
+         * Static utilities
+         */
+    }
+}
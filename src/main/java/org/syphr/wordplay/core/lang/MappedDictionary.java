@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A dictionary that reads a lexicon compiled by {@link LexiconCompiler} directly
+ * from a memory-mapped file. Nothing is copied onto the heap, so opening a
+ * dictionary is nearly instant and every JVM on a host that maps the same file
+ * shares one copy of it through the operating system's page cache.
+ * <p>
+ * The file must not be modified while it is mapped. The mapping is released
+ * when this dictionary is garbage collected.
+ *
+ * @author Gregory P. Moyer
+ */
+@Immutable
+public class MappedDictionary extends AbstractGraphDictionary
+{
+    private final ByteBuffer buffer;
+    private final int nodeCount;
+    private final int wordCount;
+    private final int maxLength;
+    private final int targetsOffset;
+    private final int charactersOffset;
+    private final int terminalsOffset;
+
+    /**
+     * Map the given lexicon file.
+     *
+     * @param file the compiled lexicon
+     *
+     * @return the mapped dictionary
+     *
+     * @throws IOException if the file cannot be read or is not a supported
+     *                     lexicon
+     */
+    public static MappedDictionary open(Path file) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Lexicon is too large: " + file);
+            }
+
+            return new MappedDictionary(channel.map(MapMode.READ_ONLY, 0, channel.size()), file);
+        }
+    }
+
+    private MappedDictionary(ByteBuffer buffer, Path file) throws IOException
+    {
+        if (buffer.capacity() < LexiconFormat.HEADER_SIZE || buffer.getInt(0) != LexiconFormat.MAGIC) {
+            throw new IOException("Not a lexicon file: " + file);
+        }
+
+        int version = buffer.getInt(4);
+        if (version != LexiconFormat.VERSION) {
+            throw new IOException("Unsupported lexicon version " + version + ": " + file);
+        }
+
+        this.buffer = buffer;
+        this.nodeCount = buffer.getInt(8);
+        int edgeCount = buffer.getInt(12);
+        this.wordCount = buffer.getInt(16);
+        this.maxLength = buffer.getInt(20);
+
+        if (nodeCount < 1 || edgeCount < 0 || LexiconFormat.getSize(nodeCount, edgeCount) != buffer.capacity()) {
+            throw new IOException("Corrupt lexicon: " + file);
+        }
+
+        this.targetsOffset = LexiconFormat.HEADER_SIZE + Integer.BYTES * (nodeCount + 1);
+        this.charactersOffset = targetsOffset + Integer.BYTES * edgeCount;
+        this.terminalsOffset = charactersOffset + Character.BYTES * edgeCount;
+    }
+
+    private int getFirstEdge(int node)
+    {
+        return buffer.getInt(LexiconFormat.HEADER_SIZE + Integer.BYTES * node);
+    }
+
+    private char getCharacter(int edge)
+    {
+        return buffer.getChar(charactersOffset + Character.BYTES * edge);
+    }
+
+    private int getTarget(int edge)
+    {
+        return buffer.getInt(targetsOffset + Integer.BYTES * edge);
+    }
+
+    @Override
+    protected int getWordCount()
+    {
+        return wordCount;
+    }
+
+    @Override
+    protected int getMaxLength()
+    {
+        return maxLength;
+    }
+
+    @Override
+    public int getRoot()
+    {
+        return 0;
+    }
+
+    @Override
+    public int getChild(int node, char character)
+    {
+        int low = getFirstEdge(node);
+        int high = getFirstEdge(node + 1) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char edgeCharacter = getCharacter(middle);
+
+            if (edgeCharacter < character) {
+                low = middle + 1;
+            } else if (edgeCharacter > character) {
+                high = middle - 1;
+            } else {
+                return getTarget(middle);
+            }
+        }
+
+        return NONE;
+    }
+
+    @Override
+    public boolean isTerminal(int node)
+    {
+        return (buffer.get(terminalsOffset + node / 8) & (1 << (node % 8))) != 0;
+    }
+
+    @Override
+    public int getEdgeCount(int node)
+    {
+        return getFirstEdge(node + 1) - getFirstEdge(node);
+    }
+
+    @Override
+    public char getEdgeCharacter(int node, int index)
+    {
+        return getCharacter(getFirstEdge(node) + index);
+    }
+
+    @Override
+    public int getEdgeTarget(int node, int index)
+    {
+        return getTarget(getFirstEdge(node) + index);
+    }
+
+    /**
+     * Retrieve the number of nodes in the underlying graph.
+     *
+     * @return the node count
+     */
+    public int getNodeCount()
+    {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A word graph is a directed graph of characters where every path from the root
+ * node spells the beginning of at least one word and every word ends at a
+ * terminal node. Nodes are identified by integers so that move generators can
+ * walk the graph one character at a time without allocating.
+ *
+ * @author Gregory P. Moyer
+ */
+@ThreadSafe
+public interface WordGraph
+{
+    /**
+     * The node identifier returned when there is no such node.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Retrieve the node from which every word begins.
+     *
+     * @return the root node
+     */
+    public int getRoot();
+
+    /**
+     * Follow the edge labeled with the given character from the given node.
+     *
+     * @param node      the node to start from
+     * @param character the edge label
+     *
+     * @return the node at the end of the edge or {@link #NONE} if no word
+     *         continues with the given character
+     */
+    public int getChild(int node, char character);
+
+    /**
+     * Determine whether or not a word ends at the given node.
+     *
+     * @param node the node to check
+     *
+     * @return <code>true</code> if the path from the root to the given node spells
+     *         a word; <code>false</code> otherwise
+     */
+    public boolean isTerminal(int node);
+
+    /**
+     * Retrieve the number of edges leaving the given node.
+     *
+     * @param node the node whose edges will be counted
+     *
+     * @return the number of edges
+     */
+    public int getEdgeCount(int node);
+
+    /**
+     * Retrieve the label of an edge leaving the given node. Edges are ordered by
+     * ascending character.
+     *
+     * @param node  the node the edge leaves
+     * @param index the index of the edge, from zero (inclusive) to
+     *              {@link #getEdgeCount(int)} (exclusive)
+     *
+     * @return the edge label
+     */
+    public char getEdgeCharacter(int node, int index);
+
+    /**
+     * Retrieve the node at the end of an edge leaving the given node.
+     *
+     * @param node  the node the edge leaves
+     * @param index the index of the edge, from zero (inclusive) to
+     *              {@link #getEdgeCount(int)} (exclusive)
+     *
+     * @return the node at the end of the edge
+     */
+    public int getEdgeTarget(int node, int index);
+
+    /**
+     * Follow each character of the given sequence in turn, starting from the given
+     * node.
+     *
+     * @param node     the node to start from
+     * @param sequence the characters to follow
+     *
+     * @return the node reached after the last character or {@link #NONE} if the
+     *         path leaves the graph
+     */
+    public default int walk(int node, CharSequence sequence)
+    {
+        for (int i = 0; i < sequence.length() && node != NONE; i++) {
+            node = getChild(node, sequence.charAt(i));
+        }
+
+        return node;
+    }
+}
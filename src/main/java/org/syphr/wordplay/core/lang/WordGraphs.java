@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+public final class WordGraphs
+{
+    /**
+     * Graphs built for dictionaries that cannot be navigated directly, kept for as
+     * long as the dictionary itself is reachable.
+     */
+    private static final Cache<Dictionary, WordGraph> GRAPHS = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * GADDAGs built for dictionaries, kept for as long as the dictionary itself is
+     * reachable.
+     */
+    private static final Cache<Dictionary, Gaddag> GADDAGS = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * Retrieve a graph of the words in the given dictionary. If the dictionary is
+     * already a graph, it is returned as is; otherwise a {@link DawgDictionary} is
+     * built from its words the first time it is requested.
+     *
+     * @param dictionary the dictionary to navigate
+     *
+     * @return a graph of the words in the dictionary
+     */
+    public static WordGraph of(Dictionary dictionary)
+    {
+        if (dictionary instanceof WordGraph graph) {
+            return graph;
+        }
+
+        try {
+            return GRAPHS.get(dictionary, () -> DawgDictionary.of(dictionary.getWords()));
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Retrieve a GADDAG of the words in the given dictionary. It is built the
+     * first time it is requested for each dictionary.
+     *
+     * @param dictionary the dictionary to navigate
+     *
+     * @return a GADDAG of the words in the dictionary
+     */
+    public static Gaddag gaddag(Dictionary dictionary)
+    {
+        try {
+            return GADDAGS.get(dictionary, () -> Gaddag.of(dictionary.getWords()));
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    private WordGraphs()
+    {
+        /*
+         * Factory pattern
+         */
+    }
+}
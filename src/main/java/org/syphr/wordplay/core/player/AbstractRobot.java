@@ -15,26 +15,34 @@
  */
 package org.syphr.wordplay.core.player;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.Evaluation;
+import org.syphr.wordplay.core.component.Occupancy;
 import org.syphr.wordplay.core.component.Piece;
 import org.syphr.wordplay.core.component.Placement;
 import org.syphr.wordplay.core.component.TileSet;
@@ -56,7 +64,12 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
 
     private Configuration configuration;
 
-    private ExecutorService executor;
+    /**
+     * Racks of this many pieces or fewer are searched on the calling thread.
+     */
+    private static final int SEQUENTIAL_RACK_SIZE = 2;
+
+    private RobotScheduler scheduler = RobotScheduler.getDefault();
 
     public AbstractRobot()
     {
@@ -94,21 +107,51 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
 
     protected int getMaxThreads()
     {
-        return Runtime.getRuntime().availableProcessors();
+        return scheduler.getParallelism();
     }
 
+    /**
+     * Create the factory for the threads of the executor that used to run this
+     * robot's searches.
+     *
+     * @return a factory of daemon threads
+     * @deprecated searches run on the pool of the {@link #getScheduler()
+     *             scheduler}, whose threads are created by the scheduler; the
+     *             returned factory is no longer used
+     */
+    @Deprecated(forRemoval = true)
     protected ThreadFactory createThreadFactory()
     {
         return new DaemonThreadFactory();
     }
 
+    /**
+     * Retrieve the executor that runs this robot's searches.
+     *
+     * @return the pool of the {@link #getScheduler() scheduler}, which is shared
+     *         with other robots and must not be shut down
+     * @deprecated use {@link RobotScheduler#getPool()}
+     */
+    @Deprecated(forRemoval = true)
     protected ExecutorService getExecutor()
     {
-        if (executor == null) {
-            executor = Executors.newCachedThreadPool(createThreadFactory());
-        }
+        return scheduler.getPool();
+    }
+
+    /**
+     * Set the scheduler that runs this robot's searches. By default, all robots
+     * share {@link RobotScheduler#getDefault()}.
+     *
+     * @param scheduler the scheduler
+     */
+    public void setScheduler(RobotScheduler scheduler)
+    {
+        this.scheduler = scheduler;
+    }
 
-        return executor;
+    public RobotScheduler getScheduler()
+    {
+        return scheduler;
     }
 
     @Override
@@ -118,116 +161,277 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
         return strategy.selectPlacement();
     }
 
+    @Override
+    public SearchResult getPlacement(Board board, Instant deadline)
+    {
+        StrategySink sink = new StrategySink(strategy, deadline);
+        findPlacements(board.snapshot(), sink);
+
+        return new SearchResult(strategy.selectPlacement(), !sink.isExpired());
+    }
+
+    /**
+     * Find the valid placements of this robot's rack on the given board and pass
+     * them to the {@link #getStrategy() strategy} as they are found. The search
+     * stops early if the strategy indicates that it has seen enough. It reads a
+     * {@link Board#snapshot() snapshot} of the board, so the board may change while
+     * the search runs.
+     *
+     * @param board the board
+     */
     public void findPlacements(Board board)
     {
-        Collection<ValuedPlacement> placements = strategy.getDataStructure();
-        placements.clear();
+        findPlacements(board.snapshot(), new StrategySink(strategy));
+    }
 
-        Collection<List<PieceWrapper>> candidates = getPlacementCandidates(getRack().getPieces());
-        // if (LOGGER.isTraceEnabled())
-        // {
-        LOGGER.info("Found {} possible combinations and permutations", candidates.size());
-        // }
+    /*
+     * The given board is shared by every worker thread of the search, so it must
+     * be a snapshot.
+     */
+    void findPlacements(Board board, StrategySink sink)
+    {
+        RackEnumerator enumerator = new RackEnumerator(board, getRack().getPieces(), configuration);
 
-        CompletionService<Collection<ValuedPlacement>> completionService = new ExecutorCompletionService<>(getExecutor());
+        List<Location> locations = getOpenLocations(board);
+        LOGGER.debug("Found {} open location(s)", locations.size());
 
-        Iterator<List<PieceWrapper>> candidateIter = candidates.iterator();
-        int groupSize = (int) Math.ceil((double) candidates.size() / (double) getMaxThreads());
-        for (int t = 0; t < getMaxThreads(); t++) {
-            Collection<List<PieceWrapper>> candidateGroup = new ArrayList<>();
+        search(locations, location -> enumerate(enumerator, board, location, sink, sink::isDone), sink);
+    }
 
-            for (int c = t * groupSize; c < (t + 1) * groupSize && candidateIter.hasNext(); c++) {
-                candidateGroup.add(candidateIter.next());
+    /**
+     * Retrieve the locations of the given board from which the brute force search
+     * enumerates placements. They are ordered so that the most promising are
+     * searched first, so that a search cut short at its deadline is likely to have
+     * found the best placements already.
+     *
+     * @param board the board
+     * @return the open locations
+     */
+    protected List<Location> getOpenLocations(Board board)
+    {
+        List<Location> locations = new ArrayList<>();
+        Dimension boardDimension = board.getDimension();
+        TileSet tiles = board.getTiles();
+        for (int x = 0; x < boardDimension.width(); x++) {
+            for (int y = 0; y < boardDimension.height(); y++) {
+                for (int z = 0; z < boardDimension.depth(); z++) {
+                    Location location = Location.at(x, y, z);
+                    if (!tiles.hasPiece(location)) {
+                        locations.add(location);
+                    }
+                }
             }
+        }
+
+        Map<Location, Integer> promises = new HashMap<>();
+        for (Location location : locations) {
+            promises.put(location, getPromise(board, location));
+        }
+        locations.sort(Comparator.<Location>comparingInt(promises::get).reversed());
 
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Candidate group {} contains {} entries", t, candidateGroup.size());
+        return locations;
+    }
+
+    /*
+     * Estimate how valuable the placements starting at the given location are
+     * likely to be. A placement is only valid if it covers an anchor (or the start
+     * of an empty board), so locations from which the rack cannot reach one come
+     * last. Otherwise, the open tiles with attributes (such as multipliers) within
+     * reach are counted, as the anchor generator does.
+     */
+    private int getPromise(Board board, Location location)
+    {
+        TileSet tiles = board.getTiles();
+        Occupancy occupancy = board.getOccupancy();
+        Dimension boardDimension = board.getDimension();
+        int reach = getRack().getPieces().size();
+
+        int promise = -1;
+        for (Orientation orientation : configuration.getOrientations()) {
+            boolean anchored = false;
+            int attributes = 0;
+
+            int placed = 0;
+            for (Location l = location; placed < reach && boardDimension.contains(l); l = orientation.move(l, 1)) {
+                if (tiles.hasPiece(l)) {
+                    continue;
+                }
+
+                placed++;
+                anchored = anchored || (occupancy.isEmpty() ? l.equals(board.getStart()) : occupancy.isAnchor(l));
+                if (!tiles.getTile(l).viewAttributes().isEmpty()) {
+                    attributes++;
+                }
             }
 
-            completionService.submit(buildPlacementTask(candidateGroup, board));
-        }
-        assert (!candidateIter.hasNext());
-
-        for (int i = 0; i < getMaxThreads(); i++) {
-            try {
-                placements.addAll(completionService.take().get());
-            } catch (InterruptedException e) {
-                throw new IllegalStateException(e.getMessage(), e);
-            } catch (ExecutionException e) {
-                throw new IllegalStateException(e.getMessage(), e);
+            if (anchored) {
+                promise = Math.max(promise, attributes);
             }
         }
 
-        if (LOGGER.isTraceEnabled()) {
-            for (ValuedPlacement placement : placements) {
-                LOGGER.trace("{}\t{}", placement.getPoints(), placement.getPieces());
+        return promise;
+    }
+
+    /*
+     * Pass each valid placement enumerated from the given location to the given
+     * consumer, with its points set, until the given condition is met.
+     */
+    void enumerate(RackEnumerator enumerator,
+                   Board board,
+                   Location location,
+                   Consumer<? super ValuedPlacement> consumer,
+                   BooleanSupplier stop)
+    {
+        /*
+         * Placements that differ only by a wildcard letter all start here, so
+         * duplicates only need to be tracked per location.
+         */
+        Set<ValuedPlacement> placements = new HashSet<>();
+
+        enumerator.enumerate(location, placement -> {
+            /*
+             * If this placement is the same as another accepted placement, there is no need
+             * to check it. This happens when the only difference between two valid
+             * placements is the letter selected for a wildcard; there is no scoring
+             * difference and so it can be skipped. For future strategy consideration, the
+             * letter selected may impact future turns for both this player and the
+             * opponent(s). Applying some sort of ranking mechanism to each letter would
+             * allow a more strategic wildcard selection to override another.
+             */
+            if (stop.getAsBoolean() || placements.contains(placement)) {
+                return;
+            }
+
+            long evaluation = board.evaluate(placement);
+            if (Evaluation.isValid(evaluation)) {
+                ((ValuedPlacementImpl) placement).setPoints(Evaluation.getPoints(evaluation));
+                placements.add(placement);
+                consumer.accept(placement);
+            }
+        });
+    }
+
+    /**
+     * Run the given search for each of the given work items, in parallel if it is
+     * worth the overhead, until every item is searched, the strategy has seen
+     * enough or the deadline passes. Items still being searched at the deadline no
+     * longer pass placements to the strategy.
+     */
+    <T> void search(List<T> items, Consumer<T> search, StrategySink sink)
+    {
+        search(sink, admitted -> run(items, search, admitted));
+    }
+
+    /**
+     * Wait for admission by the {@link #getScheduler() scheduler}, then run the
+     * given search with the given sink and release the admission when it returns.
+     * If the deadline passes before the search is admitted, it does not run at
+     * all.
+     */
+    void search(StrategySink sink, Consumer<StrategySink> search)
+    {
+        try {
+            if (!scheduler.admit(getId(), sink.getRemainingNanos())) {
+                sink.expire();
+                LOGGER.debug("Search expired before it was admitted");
+                return;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+
+        try {
+            search.accept(sink);
+        } finally {
+            scheduler.release(getId());
+        }
+
+        if (sink.isExpired()) {
+            LOGGER.debug("Search stopped at the deadline");
+        } else if (sink.isDone()) {
+            LOGGER.debug("Search stopped early by the strategy");
         }
     }
 
-    private Callable<Collection<ValuedPlacement>> buildPlacementTask(final Collection<List<PieceWrapper>> candidates,
-                                                                     final Board board)
+    /**
+     * Wait for the given task, which passes placements to the given sink, to
+     * finish or for the deadline to pass. At the deadline, the sink is expired and
+     * the task is joined once its workers see that and stop, so that nothing is
+     * still running on the pool once the search releases its admission.
+     */
+    void await(ForkJoinTask<?> task, StrategySink sink)
     {
-        return new Callable<>()
-        {
-            @Override
-            public Collection<ValuedPlacement> call()
-            {
-                Collection<ValuedPlacement> placements = new HashSet<>();
-
-                // FIXME board is not thread safe
-                Dimension boardDimension = board.getDimension();
-                TileSet tiles = board.getTiles();
-
-                for (int x = 0; x < boardDimension.width(); x++) {
-                    for (int y = 0; y < boardDimension.height(); y++) {
-                        for (int z = 0; z < boardDimension.depth(); z++) {
-                            if (Thread.interrupted()) {
-                                return placements;
-                            }
-
-                            Location location = Location.at(x, y, z);
-                            if (tiles.getTile(location).hasPiece()) {
-                                continue;
-                            }
-
-                            for (List<PieceWrapper> candidate : candidates) {
-                                for (Orientation orientation : configuration.getOrientations()) {
-                                    ValuedPlacementImpl placement = new ValuedPlacementImpl();
-                                    placement.setPieces(unwrap(candidate));
-                                    placement.setStartLocation(location);
-                                    placement.setOrientation(orientation);
-
-                                    /*
-                                     * If this placement is the same as another accepted placement, there is no need
-                                     * to check it. This can happen because the pieces have been wrapped to allow
-                                     * piece groups that only differ by the wildcard letter selected to be added
-                                     * together so they can each be tested. However, if the only difference between
-                                     * two valid placements is the letter selected for a wildcard, there is no
-                                     * scoring difference and so it can be skipped. For future strategy
-                                     * consideration, the letter selected may impact future turns for both this
-                                     * player and the opponent(s). Applying some sort of ranking mechanism to each
-                                     * letter would allow a more strategic wildcard selection to override another.
-                                     */
-                                    if (placements.contains(placement)) {
-                                        continue;
-                                    }
-
-                                    if (board.isValid(placement)) {
-                                        placement.setPoints(board.calculatePoints(placement));
-                                        placements.add(placement);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        try {
+            task.get(sink.getRemainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            /*
+             * Cancelling the task would neither interrupt nor wait for the subtasks that
+             * are already running, so they are left to drain instead.
+             */
+            sink.expire();
+            task.quietlyJoin();
+        } catch (InterruptedException e) {
+            sink.expire();
+            task.quietlyJoin();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
 
-                return placements;
+    private <T> void run(List<T> items, Consumer<T> search, StrategySink sink)
+    {
+        if (!isParallel(items.size())) {
+            LOGGER.debug("Searching {} item(s) on the calling thread", items.size());
+            for (int i = 0; i < items.size() && !sink.isDone(); i++) {
+                search.accept(items.get(i));
             }
-        };
+        } else {
+            await(scheduler.getPool().submit(new PlacementSearchTask<>(items, getSplitThreshold(), search, sink)),
+                  sink);
+        }
     }
 
+    /**
+     * Determine whether or not a search of the given number of work items should
+     * be split across threads. Small racks produce so few placements per item that
+     * forking costs more than it saves.
+     *
+     * @param itemCount the number of work items
+     * @return <code>true</code> if the search should run in parallel;
+     *         <code>false</code> if it should run on the calling thread
+     */
+    protected boolean isParallel(int itemCount)
+    {
+        return getMaxThreads() > 1
+               && itemCount > getSplitThreshold()
+               && getRack().getPieces().size() > SEQUENTIAL_RACK_SIZE;
+    }
+
+    /**
+     * Retrieve the number of work items at or below which a search task stops
+     * splitting and searches its items in order.
+     *
+     * @return the split threshold
+     */
+    protected int getSplitThreshold()
+    {
+        return 1;
+    }
+
+    /**
+     * Generate every combination and permutation of the given pieces, with each
+     * wildcard expanded to every letter.
+     *
+     * @param pieces the pieces
+     * @return the candidate piece groups
+     * @deprecated candidates are enumerated by {@link RackEnumerator}, which
+     *             abandons a group as soon as it cannot begin a word; this is no
+     *             longer used by the search
+     */
+    @Deprecated(forRemoval = true)
     protected Collection<List<PieceWrapper>> getPlacementCandidates(List<Piece> pieces)
     {
         Collection<List<PieceWrapper>> candidates = new HashSet<>();
@@ -242,6 +446,17 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
         return candidates;
     }
 
+    /**
+     * Expand each wildcard of the given list to every letter, appending the
+     * results to the given prefix.
+     *
+     * @param prefix the pieces already expanded
+     * @param list the pieces to expand
+     * @return the expanded piece groups
+     * @deprecated {@link RackEnumerator} resolves wildcards to only the letters
+     *             that continue a word; this is no longer used by the search
+     */
+    @Deprecated(forRemoval = true)
     protected Collection<List<PieceWrapper>> expandWildcards(List<PieceWrapper> prefix, List<PieceWrapper> list)
     {
         if (list.isEmpty()) {
@@ -270,6 +485,10 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
         return expanded;
     }
 
+    /**
+     * @deprecated see {@link PieceWrapper}
+     */
+    @Deprecated(forRemoval = true)
     protected List<PieceWrapper> wrap(List<Piece> pieces)
     {
         List<PieceWrapper> wrapped = new ArrayList<>();
@@ -281,6 +500,10 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
         return wrapped;
     }
 
+    /**
+     * @deprecated see {@link PieceWrapper}
+     */
+    @Deprecated(forRemoval = true)
     protected List<Piece> unwrap(List<PieceWrapper> pieces)
     {
         List<Piece> unwrapped = new ArrayList<>();
@@ -292,6 +515,14 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
         return unwrapped;
     }
 
+    /**
+     * Generate every combination and permutation of the given list.
+     *
+     * @param list the list
+     * @return the combinations and permutations
+     * @deprecated see {@link #getPlacementCandidates(List)}
+     */
+    @Deprecated(forRemoval = true)
     protected <T> Collection<List<T>> getCombinationsAndPermutations(List<T> list)
     {
         Collection<List<T>> results = new HashSet<>(Collections2.permutations(list));
@@ -318,7 +549,10 @@ public abstract class AbstractRobot extends PlayerImpl implements Robot
      * unequal objects until the testing is complete.
      *
      * @author Gregory P. Moyer
+     * @deprecated {@link RackEnumerator} sets the chosen letter on a copy of each
+     *             wildcard, so pieces no longer need to be wrapped
      */
+    @Deprecated(forRemoval = true)
     protected static class PieceWrapper implements Piece
     {
         private final Piece delegate;
@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.CrossChecks;
+import org.syphr.wordplay.core.component.Evaluation;
+import org.syphr.wordplay.core.component.Occupancy;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.TileSet;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.lang.Gaddag;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.lang.WordGraph;
+import org.syphr.wordplay.core.lang.WordGraphs;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+
+/**
+ * This generator finds every valid placement of a rack on a board without
+ * testing every combination of pieces, locations and orientations. Words are
+ * grown from anchors (empty tiles next to occupied tiles, or the board start
+ * when the board is empty), first backwards and then forwards along a
+ * {@link Gaddag}, and each branch is abandoned as soon as the letters so far
+ * cannot be part of a word in the dictionary or would form an invalid word
+ * across the placement.
+ * <p>
+ * Each placement is generated exactly once, from the first anchor it covers
+ * along its orientation. The pieces placed before that anchor may therefore only
+ * occupy empty tiles that are not anchors themselves.
+ * <p>
+ * Anchors are ordered so that the most promising are searched first, and
+ * longer placements from an anchor are generated before shorter ones, so that
+ * a search cut short is likely to have found the best placements already.
+ * <p>
+ * The board must not be modified while placements are being generated. As long
+ * as that holds, {@link #generate(Location, Consumer)} may be called
+ * concurrently for different anchors.
+ *
+ * @author Gregory P. Moyer
+ */
+public class AnchorPlacementGenerator
+{
+    private final Board board;
+    private final TileSet tiles;
+    private final Dimension dimension;
+    private final Set<Orientation> placementOrientations;
+    private final Set<Orientation> boardOrientations;
+    private final CrossChecks crossChecks;
+    private final Gaddag graph;
+    private final Map<Character, Letter> letters = new HashMap<>();
+    private final List<Piece> rack;
+    private final boolean boardEmpty;
+    private final Occupancy occupancy;
+    private final List<Location> orderedAnchors;
+
+    public AnchorPlacementGenerator(Board board, List<Piece> rack, Configuration configuration)
+    {
+        this.board = board;
+        this.tiles = board.getTiles();
+        this.dimension = board.getDimension();
+        this.placementOrientations = configuration.getOrientations();
+        this.boardOrientations = board.getOrientations();
+        this.crossChecks = board.getCrossChecks();
+        this.graph = WordGraphs.gaddag(configuration.getDictionary());
+        for (Letter letter : configuration.getLetterFactory().getLetters()) {
+            letters.put(letter.getCharacter(), letter);
+        }
+        this.rack = List.copyOf(rack);
+        this.boardEmpty = !hasPiece(board.getStart());
+        this.occupancy = board.getOccupancy();
+        this.orderedAnchors = findAnchors().stream()
+                                           .sorted(Comparator.comparingInt(this::getPromise).reversed())
+                                           .toList();
+    }
+
+    private List<Location> findAnchors()
+    {
+        /*
+         * Until the start location is covered, every placement must cover it, so it is
+         * the only anchor.
+         */
+        if (boardEmpty) {
+            return dimension.contains(board.getStart()) ? List.of(board.getStart()) : List.of();
+        }
+
+        return occupancy.getAnchors();
+    }
+
+    private boolean isAnchor(Location location)
+    {
+        return boardEmpty ? location.equals(board.getStart()) : occupancy.isAnchor(location);
+    }
+
+    /*
+     * Estimate how valuable the placements grown from the given anchor are likely
+     * to be by counting the open tiles with attributes (such as multipliers) that
+     * the rack could reach and the words that a piece on the anchor would form
+     * across a placement.
+     */
+    private int getPromise(Location anchor)
+    {
+        int promise = 0;
+
+        for (Orientation orientation : placementOrientations) {
+            for (int distance = -rack.size(); distance <= rack.size(); distance++) {
+                Location location = orientation.move(anchor, distance);
+                if (isOpen(location) && !tiles.getTile(location).viewAttributes().isEmpty()) {
+                    promise++;
+                }
+            }
+        }
+
+        for (Orientation orientation : boardOrientations) {
+            if (crossChecks.hasCrossWord(anchor, orientation)) {
+                promise++;
+            }
+        }
+
+        return promise;
+    }
+
+    /**
+     * Retrieve the locations from which placements will be grown, from most to
+     * least promising.
+     *
+     * @return the anchor locations
+     */
+    public List<Location> getAnchors()
+    {
+        return orderedAnchors;
+    }
+
+    /**
+     * Generate every valid placement whose first anchor along its orientation is
+     * the given location.
+     *
+     * @param anchor   the anchor to grow placements from
+     * @param consumer the receiver of each valid placement
+     */
+    public void generate(Location anchor, Consumer<ValuedPlacement> consumer)
+    {
+        generate(anchor, consumer, () -> false);
+    }
+
+    /**
+     * Generate every valid placement whose first anchor along its orientation is
+     * the given location, abandoning the search as soon as the given condition is
+     * met.
+     *
+     * @param anchor   the anchor to grow placements from
+     * @param consumer the receiver of each valid placement
+     * @param stop     the condition under which to stop generating placements
+     */
+    public void generate(Location anchor, Consumer<ValuedPlacement> consumer, BooleanSupplier stop)
+    {
+        for (Orientation orientation : placementOrientations) {
+            if (stop.getAsBoolean()) {
+                return;
+            }
+
+            new Walk(orientation, anchor, consumer, stop).fill(anchor, graph.getRoot(), 0, false);
+        }
+    }
+
+    private boolean isOpen(Location location)
+    {
+        return dimension.contains(location) && !tiles.hasPiece(location);
+    }
+
+    private boolean hasPiece(Location location)
+    {
+        return dimension.contains(location) && tiles.hasPiece(location);
+    }
+
+    private char getCharacter(Location location)
+    {
+        return tiles.getTile(location).getPiece().orElseThrow().getLetter().orElseThrow().getCharacter();
+    }
+
+    /*
+     * Determine whether or not the given character can be placed at the given
+     * location without forming an invalid word in any orientation other than the
+     * placement orientation.
+     */
+    private boolean isCrossCheckValid(Location location, Orientation orientation, char character)
+    {
+        long mask = crossChecks.getAlphabet().getMask(character);
+
+        for (Orientation crossOrientation : boardOrientations) {
+            if (!crossOrientation.equals(orientation) && (crossChecks.getMask(location, crossOrientation) & mask) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The state of a single depth-first walk along one line of the board. The walk
+     * starts at the anchor and moves backwards until it follows the
+     * {@link Gaddag#SEPARATOR}, then moves forwards from the anchor until the word
+     * is complete.
+     */
+    private class Walk
+    {
+        private final Orientation orientation;
+        private final Location anchor;
+        private final Consumer<ValuedPlacement> consumer;
+        private final BooleanSupplier stop;
+
+        private final boolean[] used = new boolean[rack.size()];
+        private final Deque<Piece> pieces = new ArrayDeque<>();
+
+        /**
+         * The location of the first new piece along the orientation.
+         */
+        private Location start;
+
+        public Walk(Orientation orientation, Location anchor, Consumer<ValuedPlacement> consumer, BooleanSupplier stop)
+        {
+            this.orientation = orientation;
+            this.anchor = anchor;
+            this.consumer = consumer;
+            this.stop = stop;
+        }
+
+        /*
+         * Place each distinct remaining piece at the given open location and continue
+         * in the current direction. The given node is reached by the letters walked so
+         * far, of which there are the given number.
+         */
+        public void fill(Location location, int node, int length, boolean forwards)
+        {
+            if (stop.getAsBoolean()) {
+                return;
+            }
+
+            Set<Piece> tried = new HashSet<>();
+
+            for (int i = 0; i < rack.size(); i++) {
+                Piece piece = rack.get(i);
+                if (used[i] || !tried.add(piece)) {
+                    continue;
+                }
+
+                used[i] = true;
+
+                if (piece.isWild()) {
+                    /*
+                     * Only the letters that continue a word from here are worth trying. The
+                     * separator is not a letter, so it is skipped.
+                     */
+                    for (int e = 0; e < graph.getEdgeCount(node); e++) {
+                        char character = graph.getEdgeCharacter(node, e);
+                        Letter letter = letters.get(character);
+                        if (letter != null) {
+                            Piece copy = piece.copy();
+                            copy.setLetter(letter);
+                            place(location, copy, character, graph.getEdgeTarget(node, e), length + 1, forwards);
+                        }
+                    }
+                } else {
+                    char character = piece.getLetter().orElseThrow().getCharacter();
+                    int child = graph.getChild(node, character);
+                    if (child != WordGraph.NONE) {
+                        place(location, piece, character, child, length + 1, forwards);
+                    }
+                }
+
+                used[i] = false;
+            }
+        }
+
+        private void place(Location location, Piece piece, char character, int node, int length, boolean forwards)
+        {
+            if (!isCrossCheckValid(location, orientation, character)) {
+                return;
+            }
+
+            if (forwards) {
+                pieces.addLast(piece);
+                forwards(location, node, length);
+                pieces.removeLast();
+            } else {
+                Location previousStart = start;
+                start = location;
+                pieces.addFirst(piece);
+
+                backwards(location, node, length);
+
+                pieces.removeFirst();
+                start = previousStart;
+            }
+        }
+
+        /*
+         * Continue backwards from the given filled location, consuming any existing
+         * pieces before it. If the word can begin here, also turn around and continue
+         * forwards from the anchor. Longer words are tried first.
+         */
+        private void backwards(Location location, int node, int length)
+        {
+            Location before = orientation.move(location, -1);
+            if (hasPiece(before)) {
+                int child = graph.getChild(node, getCharacter(before));
+                if (child != WordGraph.NONE) {
+                    backwards(before, child, length + 1);
+                }
+
+                return;
+            }
+
+            /*
+             * Earlier anchors generate their own placements, so new pieces may only
+             * precede this one on tiles that are not anchors.
+             */
+            if (pieces.size() < rack.size() && isOpen(before) && !isAnchor(before)) {
+                fill(before, node, length, false);
+            }
+
+            int separated = graph.getChild(node, Gaddag.SEPARATOR);
+            if (separated != WordGraph.NONE) {
+                forwards(anchor, separated, length);
+            } else if (length == 1 && !hasPiece(orientation.move(anchor, 1)) && isComplete(node, length)) {
+                /*
+                 * No word begins with the letter of a lone piece that has no way past the
+                 * separator, but its word of one letter is never validated, so it may still
+                 * form a word across the placement.
+                 */
+                accept();
+            }
+        }
+
+        /*
+         * Continue forwards from the given filled location, consuming any existing
+         * pieces after it, and accept the placement wherever the word is complete.
+         * Longer words are tried first.
+         */
+        private void forwards(Location location, int node, int length)
+        {
+            Location after = orientation.move(location, 1);
+            if (hasPiece(after)) {
+                int child = graph.getChild(node, getCharacter(after));
+                if (child != WordGraph.NONE) {
+                    forwards(after, child, length + 1);
+                }
+
+                return;
+            }
+
+            if (pieces.size() < rack.size() && isOpen(after)) {
+                fill(after, node, length, true);
+            }
+
+            if (isComplete(node, length)) {
+                accept();
+            }
+        }
+
+        private boolean isComplete(int node, int length)
+        {
+            /*
+             * A word of one letter is never validated, so a lone piece is only valid if it
+             * forms a word across the placement. Every anchor guarantees such a word except
+             * the start of an empty board.
+             */
+            if (length < 2) {
+                return !boardEmpty;
+            }
+
+            return graph.isTerminal(node);
+        }
+
+        private void accept()
+        {
+            ValuedPlacementImpl placement = new ValuedPlacementImpl();
+            placement.setPieces(new ArrayList<>(pieces));
+            placement.setStartLocation(start);
+            placement.setOrientation(orientation);
+
+            /*
+             * The walk has already checked the words, so the board is not expected to
+             * reject the placement; if it does, the board has the final say.
+             */
+            long evaluation = board.evaluate(placement);
+            if (!Evaluation.isValid(evaluation)) {
+                return;
+            }
+            placement.setPoints(Evaluation.getPoints(evaluation));
+
+            consumer.accept(placement);
+        }
+    }
+}
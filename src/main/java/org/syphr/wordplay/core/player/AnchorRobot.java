@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * A robot that only generates legal placements by growing words from anchor
+ * locations along the dictionary (see {@link AnchorPlacementGenerator}). The
+ * placements found are the same as those found by the brute force search in
+ * {@link AbstractRobot}, including a lone piece that is only valid through the
+ * word it forms across the placement, although they are found in a different
+ * order.
+ *
+ * @author Gregory P. Moyer
+ */
+public class AnchorRobot extends AbstractRobot
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnchorRobot.class);
+
+    public AnchorRobot()
+    {
+        super();
+    }
+
+    public AnchorRobot(UUID id)
+    {
+        super(id);
+    }
+
+    @Override
+    void findPlacements(Board board, StrategySink sink)
+    {
+        AnchorPlacementGenerator generator = new AnchorPlacementGenerator(board,
+                                                                          getRack().getPieces(),
+                                                                          getConfiguration());
+        List<Location> anchors = generator.getAnchors();
+        LOGGER.debug("Found {} anchor(s)", anchors.size());
+
+        search(anchors, anchor -> generate(generator, anchor, sink, sink::isDone), sink);
+    }
+
+    /**
+     * Lazily generate the valid placements of this robot's rack on the given
+     * board. Placements are only generated as the stream is consumed, so a
+     * short-circuiting operation such as {@link Stream#findFirst()} stops the
+     * search. The stream reads a {@link Board#snapshot() snapshot} of the board
+     * taken when this method is called, so the board may change while the stream
+     * is consumed.
+     *
+     * @param board the board
+     * @return the placements
+     */
+    public Stream<ValuedPlacement> streamPlacements(Board board)
+    {
+        AnchorPlacementGenerator generator = new AnchorPlacementGenerator(board.snapshot(),
+                                                                          getRack().getPieces(),
+                                                                          getConfiguration());
+
+        return generator.getAnchors()
+                        .stream()
+                        .mapMulti((anchor, consumer) -> generate(generator, anchor, consumer, () -> false));
+    }
+
+    private void generate(AnchorPlacementGenerator generator,
+                          Location anchor,
+                          Consumer<? super ValuedPlacement> consumer,
+                          BooleanSupplier stop)
+    {
+        /*
+         * Placements that only differ by the letter selected for a wildcard are equal
+         * and always share an anchor, so only the first of them is kept (see
+         * AbstractRobot).
+         */
+        Set<ValuedPlacement> placements = new HashSet<>();
+        generator.generate(anchor, placement -> {
+            if (placements.add(placement)) {
+                consumer.accept(placement);
+            }
+        }, stop);
+    }
+}
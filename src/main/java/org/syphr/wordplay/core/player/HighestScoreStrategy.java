@@ -15,11 +15,9 @@
  */
 package org.syphr.wordplay.core.player;
 
-import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +28,15 @@ public class HighestScoreStrategy implements RobotStrategy
 {
     private static final Logger LOGGER = LoggerFactory.getLogger(HighestScoreStrategy.class);
 
-    private static final Comparator<ValuedPlacement> PLACEMENT_COMPARATOR = new Comparator<>()
+    /**
+     * Orders placements from best to worst: by descending points, then by letters.
+     */
+    protected static final Comparator<ValuedPlacement> PLACEMENT_COMPARATOR = new Comparator<>()
     {
         @Override
         public int compare(ValuedPlacement p1, ValuedPlacement p2)
         {
-            int compare = p2.getPoints() - p1.getPoints();
+            int compare = Integer.compare(p2.getPoints(), p1.getPoints());
             if (compare != 0) {
                 return compare;
             }
@@ -58,11 +59,8 @@ public class HighestScoreStrategy implements RobotStrategy
                     return 1;
                 }
 
-                compare = pieceIter1.next()
-                                    .getLetter()
-                                    .orElseThrow()
-                                    .toString()
-                                    .compareTo(pieceIter2.next().getLetter().orElseThrow().toString());
+                compare = Character.compare(pieceIter1.next().getLetter().orElseThrow().getCharacter(),
+                                            pieceIter2.next().getLetter().orElseThrow().getCharacter());
                 if (compare != 0) {
                     return compare;
                 }
@@ -70,12 +68,46 @@ public class HighestScoreStrategy implements RobotStrategy
         }
     };
 
-    private final SortedSet<ValuedPlacement> placements = new TreeSet<>(PLACEMENT_COMPARATOR);
+    private final TopPlacements placements;
+
+    public HighestScoreStrategy()
+    {
+        this(1);
+    }
+
+    /**
+     * Construct a new strategy that remembers the given number of best placements
+     * from each search.
+     *
+     * @param count the number of placements to remember
+     */
+    public HighestScoreStrategy(int count)
+    {
+        this.placements = new TopPlacements(count);
+    }
+
+    /**
+     * Retrieve the best placements accepted since the last {@link #reset()}, from
+     * best to worst.
+     *
+     * @return the placements
+     */
+    public List<ValuedPlacement> getTopPlacements()
+    {
+        return placements.toList();
+    }
+
+    @Override
+    public void reset()
+    {
+        placements.clear();
+    }
 
     @Override
-    public Collection<ValuedPlacement> getDataStructure()
+    public boolean accept(ValuedPlacement placement)
     {
-        return placements;
+        placements.offer(placement);
+        return true;
     }
 
     @Override
@@ -86,7 +118,7 @@ public class HighestScoreStrategy implements RobotStrategy
             return null;
         }
 
-        return placements.getFirst();
+        return placements.getBest();
     }
 
     @Override
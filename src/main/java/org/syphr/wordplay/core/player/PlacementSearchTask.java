@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Searches a range of work items (such as anchors or open locations) by
+ * splitting it in half until no more than a threshold number of items remain,
+ * then searching those items in order. Idle workers steal the halves that have
+ * not been started yet, so an expensive item only delays the worker searching
+ * it rather than a whole fixed group of items.
+ * <p>
+ * Placements are passed to a {@link StrategySink} by the search itself, so
+ * tasks do not produce a result. Each task stops as soon as the sink is done.
+ *
+ * @param <T> the type of work item
+ *
+ * @author Gregory P. Moyer
+ */
+@SuppressWarnings("serial")
+class PlacementSearchTask<T> extends RecursiveAction
+{
+    private final List<T> items;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final Consumer<T> search;
+    private final StrategySink sink;
+
+    /**
+     * Construct a new task to search all of the given items.
+     *
+     * @param items     the work items
+     * @param threshold the number of items at or below which a task stops
+     *                  splitting
+     * @param search    the search to run for each item
+     * @param sink      the receiver of placements, which also signals when to
+     *                  stop
+     */
+    public PlacementSearchTask(List<T> items, int threshold, Consumer<T> search, StrategySink sink)
+    {
+        this(items, 0, items.size(), Math.max(1, threshold), search, sink);
+    }
+
+    private PlacementSearchTask(List<T> items,
+                                int from,
+                                int to,
+                                int threshold,
+                                Consumer<T> search,
+                                StrategySink sink)
+    {
+        this.items = items;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.search = search;
+        this.sink = sink;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if (to - from <= threshold) {
+            for (int i = from; i < to && !sink.isDone(); i++) {
+                search.accept(items.get(i));
+            }
+
+            return;
+        }
+
+        if (sink.isDone()) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new PlacementSearchTask<>(items, from, middle, threshold, search, sink),
+                  new PlacementSearchTask<>(items, middle, to, threshold, search, sink));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.TileSet;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.lang.WordGraph;
+import org.syphr.wordplay.core.lang.WordGraphs;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+
+/**
+ * This enumerator produces the candidate placements of a rack from a given start
+ * location by walking the rack depth-first, one piece at a time, along each
+ * orientation. Existing pieces between the new ones are included in the word
+ * being formed, and a branch is abandoned as soon as that word cannot begin any
+ * word in the dictionary. The exception is a lone piece with no neighbors along
+ * the orientation: its word of one letter is never checked, so it is kept even
+ * if no word begins with it, as it may still form a word across the placement.
+ * Pieces that are equal (such as two copies of the same
+ * letter) are only tried once at each step, so no duplicate candidates are
+ * produced. A wildcard is resolved while walking by trying only the letters that
+ * continue a word from its position; the chosen letter is set on a copy of the
+ * piece in each candidate.
+ * <p>
+ * Only the word along the placement orientation is checked here; candidates
+ * still need to be validated by the board (see {@link Board#isValid}).
+ * <p>
+ * The board must not be modified while candidates are being enumerated. As long
+ * as that holds, {@link #enumerate(Location, Consumer)} may be called
+ * concurrently.
+ *
+ * @author Gregory P. Moyer
+ */
+public class RackEnumerator
+{
+    private final TileSet tiles;
+    private final Dimension dimension;
+    private final Set<Orientation> orientations;
+    private final WordGraph graph;
+    private final Map<Character, Letter> letters = new HashMap<>();
+    private final List<Piece> rack;
+
+    public RackEnumerator(Board board, List<Piece> rack, Configuration configuration)
+    {
+        this.tiles = board.getTiles();
+        this.dimension = board.getDimension();
+        this.orientations = configuration.getOrientations();
+        this.graph = WordGraphs.of(configuration.getDictionary());
+        for (Letter letter : configuration.getLetterFactory().getLetters()) {
+            letters.put(letter.getCharacter(), letter);
+        }
+        this.rack = List.copyOf(rack);
+    }
+
+    /**
+     * Produce every candidate placement whose first piece is at the given
+     * location.
+     *
+     * @param start    the location of the first piece
+     * @param consumer the receiver of each candidate
+     */
+    public void enumerate(Location start, Consumer<ValuedPlacement> consumer)
+    {
+        if (!isOpen(start)) {
+            return;
+        }
+
+        for (Orientation orientation : orientations) {
+            /*
+             * The word along the orientation begins with any existing pieces directly
+             * before the start.
+             */
+            Location wordStart = start;
+            while (hasPiece(orientation.move(wordStart, -1))) {
+                wordStart = orientation.move(wordStart, -1);
+            }
+
+            int node = graph.getRoot();
+            int length = 0;
+            for (Location location = wordStart; !location.equals(start); location = orientation.move(location, 1)) {
+                node = graph.getChild(node, getCharacter(location));
+                length++;
+
+                if (node == WordGraph.NONE) {
+                    break;
+                }
+            }
+
+            if (node != WordGraph.NONE) {
+                new Walk(start, orientation, consumer).extend(start, node, length);
+            }
+        }
+    }
+
+    private boolean isOpen(Location location)
+    {
+        return dimension.contains(location) && !tiles.hasPiece(location);
+    }
+
+    private boolean hasPiece(Location location)
+    {
+        return dimension.contains(location) && tiles.hasPiece(location);
+    }
+
+    private char getCharacter(Location location)
+    {
+        return tiles.getTile(location).getPiece().orElseThrow().getLetter().orElseThrow().getCharacter();
+    }
+
+    /**
+     * The state of a single depth-first walk from one start location along one
+     * orientation.
+     */
+    private class Walk
+    {
+        private final Location start;
+        private final Orientation orientation;
+        private final Consumer<ValuedPlacement> consumer;
+
+        private final boolean[] used = new boolean[rack.size()];
+        private final List<Piece> pieces = new ArrayList<>();
+
+        public Walk(Location start, Orientation orientation, Consumer<ValuedPlacement> consumer)
+        {
+            this.start = start;
+            this.orientation = orientation;
+            this.consumer = consumer;
+        }
+
+        /*
+         * Place each distinct remaining piece at the given open location. The given
+         * node is reached by the word so far, which has the given length.
+         */
+        public void extend(Location location, int node, int length)
+        {
+            Set<Piece> tried = new HashSet<>();
+            boolean lone = length == 0 && !hasPiece(orientation.move(location, 1));
+
+            for (int i = 0; i < rack.size(); i++) {
+                Piece piece = rack.get(i);
+                if (used[i] || !tried.add(piece)) {
+                    continue;
+                }
+
+                used[i] = true;
+
+                if (piece.isWild() && lone) {
+                    /*
+                     * A lone piece may be any letter, whether or not a word begins with it.
+                     */
+                    for (Letter letter : letters.values()) {
+                        Piece copy = piece.copy();
+                        copy.setLetter(letter);
+                        extend(location, copy, graph.getChild(node, letter.getCharacter()), length + 1);
+                    }
+                } else if (piece.isWild()) {
+                    /*
+                     * Only the letters that continue a word from here are worth trying.
+                     */
+                    for (int e = 0; e < graph.getEdgeCount(node); e++) {
+                        Letter letter = letters.get(graph.getEdgeCharacter(node, e));
+                        if (letter != null) {
+                            Piece copy = piece.copy();
+                            copy.setLetter(letter);
+                            extend(location, copy, graph.getEdgeTarget(node, e), length + 1);
+                        }
+                    }
+                } else {
+                    int child = graph.getChild(node, piece.getLetter().orElseThrow().getCharacter());
+                    if (child != WordGraph.NONE || lone) {
+                        extend(location, piece, child, length + 1);
+                    }
+                }
+
+                used[i] = false;
+            }
+        }
+
+        private void extend(Location location, Piece piece, int node, int length)
+        {
+            pieces.add(piece);
+
+            Location next = orientation.move(location, 1);
+            while (node != WordGraph.NONE && hasPiece(next)) {
+                node = graph.getChild(node, getCharacter(next));
+                length++;
+                next = orientation.move(next, 1);
+            }
+
+            /*
+             * A word of one letter is not checked against the dictionary, so it may still
+             * be valid if it forms a word across the placement.
+             */
+            if (length < 2 || (node != WordGraph.NONE && graph.isTerminal(node))) {
+                accept();
+            }
+
+            if (node != WordGraph.NONE && pieces.size() < rack.size() && isOpen(next)) {
+                extend(next, node, length);
+            }
+
+            pieces.removeLast();
+        }
+
+        private void accept()
+        {
+            ValuedPlacementImpl placement = new ValuedPlacementImpl();
+            placement.setPieces(new ArrayList<>(pieces));
+            placement.setStartLocation(start);
+            placement.setOrientation(orientation);
+
+            consumer.accept(placement);
+        }
+    }
+}
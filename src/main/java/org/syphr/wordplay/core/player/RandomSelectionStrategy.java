@@ -15,9 +15,6 @@
  */
 package org.syphr.wordplay.core.player;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 import java.util.Random;
 import java.util.random.RandomGenerator;
 
@@ -27,22 +24,35 @@ public class RandomSelectionStrategy implements RobotStrategy
 {
     private final RandomGenerator rng = new Random();
 
-    private final List<ValuedPlacement> placements = new ArrayList<>();
+    /*
+     * Reservoir sampling keeps each placement seen so far with equal probability
+     * without keeping all of them.
+     */
+    private ValuedPlacement selected;
+    private long count;
 
     @Override
-    public Collection<ValuedPlacement> getDataStructure()
+    public void reset()
     {
-        return placements;
+        selected = null;
+        count = 0;
     }
 
     @Override
-    public ValuedPlacement selectPlacement()
+    public boolean accept(ValuedPlacement placement)
     {
-        if (placements.isEmpty()) {
-            return null;
+        count++;
+        if (rng.nextLong(count) == 0) {
+            selected = placement;
         }
 
-        return placements.get(rng.nextInt(placements.size()));
+        return true;
+    }
+
+    @Override
+    public ValuedPlacement selectPlacement()
+    {
+        return selected;
     }
 
     @Override
@@ -15,6 +15,9 @@
  */
 package org.syphr.wordplay.core.player;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.syphr.wordplay.core.component.Board;
@@ -71,4 +74,35 @@ public interface Robot extends Player
      * @return the robot's requested placement
      */
     public Placement getPlacement(Board board);
+
+    /**
+     * Determine this robot's next placement as {@link #getPlacement(Board)} does,
+     * but stop searching at the given deadline and select from the placements
+     * found so far.
+     * 
+     * @param board
+     *            the game board
+     * @param deadline
+     *            the time by which a placement must be selected
+     * @return the robot's requested placement and whether or not the search
+     *         finished
+     */
+    public SearchResult getPlacement(Board board, Instant deadline);
+
+    /**
+     * Determine this robot's next placement as {@link #getPlacement(Board)} does,
+     * but stop searching after the given amount of time and select from the
+     * placements found so far.
+     * 
+     * @param board
+     *            the game board
+     * @param timeout
+     *            the maximum time to search
+     * @return the robot's requested placement and whether or not the search
+     *         finished
+     */
+    public default SearchResult getPlacement(Board board, Duration timeout)
+    {
+        return getPlacement(board, Instant.now().plus(timeout));
+    }
 }
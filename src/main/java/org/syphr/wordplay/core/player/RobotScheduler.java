@@ -0,0 +1,374 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scheduler that shares a single bounded pool of worker threads between all
+ * robots in the process, rather than each robot creating its own threads.
+ * <p>
+ * Robots must be {@link #admit(UUID, long) admitted} before searching and
+ * {@link #release(UUID) release} their slot when they are done. At most a fixed
+ * number of searches run at once; the rest wait in an admission queue. Waiting
+ * searches are admitted in order of their deadlines, so that robots whose turn
+ * clock is running out go first. Searches with the same deadline (including
+ * those with no deadline) are admitted so that the owner with the fewest
+ * searches running when they arrived goes first, which keeps one busy game from
+ * starving the others, and then in arrival order. Only owners with searches
+ * running are tracked, so robots that come and go leave nothing behind.
+ *
+ * @author Gregory P. Moyer
+ */
+@ThreadSafe
+public class RobotScheduler
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(RobotScheduler.class);
+
+    /**
+     * The longest timeout added to {@link System#nanoTime()} to form a deadline.
+     * Longer timeouts are shortened to this (well over a century), so that any two
+     * deadlines can be compared by subtracting one from the other without
+     * overflow.
+     */
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 4;
+
+    private static final Comparator<Ticket> TICKET_COMPARATOR = RobotScheduler::compare;
+
+    private final ForkJoinPool pool;
+
+    private final int maxRunning;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>(TICKET_COMPARATOR);
+    private final Map<UUID, Integer> runningByOwner = new HashMap<>();
+
+    private long sequence;
+    private int running;
+    private int maxQueueDepth;
+    private long admittedCount;
+    private long expiredCount;
+
+    /**
+     * Retrieve the scheduler shared by all robots that are not given one
+     * explicitly. Its pool has one worker per available processor and admits as
+     * many searches at once.
+     *
+     * @return the default scheduler
+     */
+    public static RobotScheduler getDefault()
+    {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Construct a new scheduler.
+     *
+     * @param parallelism the number of worker threads
+     * @param maxRunning  the maximum number of searches to run at once
+     */
+    public RobotScheduler(int parallelism, int maxRunning)
+    {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("At least one search must be allowed to run: " + maxRunning);
+        }
+
+        this.pool = new ForkJoinPool(parallelism, new DaemonThreadFactory(), null, false);
+        this.maxRunning = maxRunning;
+    }
+
+    /**
+     * Retrieve the pool in which admitted searches run their tasks.
+     *
+     * @return the pool
+     */
+    public ForkJoinPool getPool()
+    {
+        return pool;
+    }
+
+    /**
+     * Retrieve the number of worker threads in the pool.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism()
+    {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Wait until a search for the given owner may run. If admitted, the caller
+     * must call {@link #release(UUID)} once the search is done.
+     *
+     * @param owner        the identifier used to share the pool fairly, such as a
+     *                     player ID
+     * @param timeoutNanos the time left before the search's deadline, or
+     *                     {@link Long#MAX_VALUE} for no deadline
+     * @return <code>true</code> if the search was admitted; <code>false</code> if
+     *         its deadline passed while it was waiting
+     * @throws InterruptedException if the calling thread is interrupted while
+     *             waiting
+     */
+    public boolean admit(UUID owner, long timeoutNanos) throws InterruptedException
+    {
+        long now = System.nanoTime();
+        boolean hasDeadline = timeoutNanos != Long.MAX_VALUE;
+        long deadline = hasDeadline ? now + Math.min(timeoutNanos, MAX_TIMEOUT_NANOS) : 0;
+
+        Ticket ticket = null;
+        lock.lock();
+        try {
+            ticket = new Ticket(hasDeadline, deadline, runningByOwner.getOrDefault(owner, 0), sequence++);
+            queue.add(ticket);
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+
+            long remaining = timeoutNanos;
+            while (queue.peek() != ticket || running >= maxRunning) {
+                if (remaining <= 0) {
+                    queue.remove(ticket);
+                    expiredCount++;
+                    changed.signalAll();
+
+                    LOGGER.debug("Search for {} expired while waiting for admission", owner);
+                    return false;
+                }
+
+                if (hasDeadline) {
+                    remaining = changed.awaitNanos(remaining);
+                } else {
+                    changed.await();
+                }
+            }
+
+            queue.remove();
+            running++;
+            admittedCount++;
+            runningByOwner.merge(owner, 1, Integer::sum);
+            changed.signalAll();
+
+            return true;
+        } catch (InterruptedException e) {
+            queue.remove(ticket);
+            changed.signalAll();
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Give up the slot taken by a successful call to {@link #admit(UUID, long)}.
+     *
+     * @param owner the identifier the search was admitted for
+     */
+    public void release(UUID owner)
+    {
+        lock.lock();
+        try {
+            running--;
+            runningByOwner.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of searches waiting for admission.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth()
+    {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the largest number of searches that have waited for admission at
+     * once.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth()
+    {
+        lock.lock();
+        try {
+            return maxQueueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of searches running now.
+     *
+     * @return the running count
+     */
+    public int getRunningCount()
+    {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of owners with searches running now.
+     *
+     * @return the running owner count
+     */
+    public int getRunningOwnerCount()
+    {
+        lock.lock();
+        try {
+            return runningByOwner.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the total number of searches admitted.
+     *
+     * @return the admitted count
+     */
+    public long getAdmittedCount()
+    {
+        lock.lock();
+        try {
+            return admittedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the total number of searches whose deadline passed before they
+     * were admitted.
+     *
+     * @return the expired count
+     */
+    public long getExpiredCount()
+    {
+        lock.lock();
+        try {
+            return expiredCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Order tickets by deadline, with tickets that have no deadline last, then by
+     * share and then by arrival. Deadlines are read from System.nanoTime(), which
+     * may wrap, so they are only compared by their difference.
+     */
+    private static int compare(Ticket a, Ticket b)
+    {
+        if (a.hasDeadline() != b.hasDeadline()) {
+            return a.hasDeadline() ? -1 : 1;
+        }
+
+        if (a.hasDeadline()) {
+            int result = Long.compare(a.deadline() - b.deadline(), 0);
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        int result = Long.compare(a.share(), b.share());
+        if (result != 0) {
+            return result;
+        }
+
+        return Long.compare(a.sequence(), b.sequence());
+    }
+
+    /**
+     * A search waiting for admission.
+     *
+     * @param hasDeadline whether or not the search has a deadline
+     * @param deadline    the deadline relative to {@link System#nanoTime()}, if
+     *                    there is one
+     * @param share       the number of searches running for the same owner when
+     *                    this one arrived
+     * @param sequence    the arrival order
+     */
+    private record Ticket(boolean hasDeadline, long deadline, long share, long sequence)
+    {
+    }
+
+    private static class DefaultHolder
+    {
+        private static final RobotScheduler INSTANCE = new RobotScheduler(Runtime.getRuntime().availableProcessors(),
+                                                                          Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This class is almost identical to the default worker thread factory in
+     * {@link ForkJoinPool}, except that the threads are named uniquely to this
+     * utility class. Fork/join workers are always daemon threads, so they do not
+     * prevent JVM shutdown.
+     */
+    private static class DaemonThreadFactory implements ForkJoinWorkerThreadFactory
+    {
+        private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String namePrefix;
+
+        public DaemonThreadFactory()
+        {
+            namePrefix = RobotScheduler.class.getSimpleName() + " Thread Pool " +
+                         POOL_NUMBER.getAndIncrement() +
+                         ", Thread ";
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool)
+        {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName(namePrefix + threadNumber.getAndIncrement());
+
+            return t;
+        }
+    }
+}
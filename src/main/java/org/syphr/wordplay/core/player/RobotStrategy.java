@@ -15,31 +15,44 @@
  */
 package org.syphr.wordplay.core.player;
 
-import java.util.Collection;
-
 import org.syphr.wordplay.core.component.ValuedPlacement;
 
 /**
- * A robot strategy determines how a robot selects its next placement.
+ * A robot strategy determines how a robot selects its next placement. Possible
+ * placements are streamed to the strategy one at a time as the robot finds
+ * them, so the strategy decides how many of them it needs to keep.
+ * <p>
+ * A robot calls {@link #reset()} before each search, then {@link #accept} for
+ * each placement found, and finally {@link #selectPlacement()}. Calls are made
+ * by one thread at a time, although not necessarily the same thread.
  * 
  * @author Gregory P. Moyer
  */
 public interface RobotStrategy
 {
     /**
-     * Retrieve the data structure into which all possible placements will be put.
+     * Discard any placements from a previous search.
+     */
+    public void reset();
+
+    /**
+     * Consider a possible placement.
+     * 
+     * @param placement the placement
      * 
-     * @return the placement data structure
+     * @return <code>true</code> if the robot should continue searching;
+     *         <code>false</code> if this strategy has seen enough and the rest of
+     *         the search can be cancelled
      */
-    public Collection<ValuedPlacement> getDataStructure();
+    public boolean accept(ValuedPlacement placement);
 
     /**
-     * Select a placement from the {@link #getDataStructure() data structure}. It is
-     * guaranteed that this method will never be called before the data structure is
-     * populated.
+     * Select a placement from those {@link #accept(ValuedPlacement) accepted}
+     * since the last {@link #reset()}. It is guaranteed that this method will never
+     * be called before the search is finished or cancelled.
      * 
-     * @return the selected placement from the data structure or <code>null</code>
-     *         if no placement was selected
+     * @return the selected placement or <code>null</code> if no placement was
+     *         selected
      */
     public ValuedPlacement selectPlacement();
 }
@@ -16,7 +16,6 @@
 package org.syphr.wordplay.core.player;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -59,6 +58,8 @@ public class SaveEnablingLettersStrategy extends HighestScoreStrategy
 
     private final Set<Letter> enablingLetters;
 
+    private final TopPlacements withoutEnablingLetters = new TopPlacements(1);
+
     public SaveEnablingLettersStrategy(double maxPointSacrificePercent,
                                        int minPointThreshold,
                                        Set<Letter> enablingLetters)
@@ -135,18 +136,33 @@ public class SaveEnablingLettersStrategy extends HighestScoreStrategy
         return Collections.unmodifiableSet(enablingLetters);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        withoutEnablingLetters.clear();
+    }
+
+    @Override
+    public boolean accept(ValuedPlacement placement)
+    {
+        super.accept(placement);
+
+        if (!hasEnablingLetters(placement)) {
+            withoutEnablingLetters.offer(placement);
+        }
+
+        return true;
+    }
+
     @Override
     public ValuedPlacement selectPlacement()
     {
-        Collection<ValuedPlacement> placements = getDataStructure();
-        if (placements.isEmpty()) {
-            LOGGER.trace("No placements available");
+        ValuedPlacement highScorePlacement = super.selectPlacement();
+        if (highScorePlacement == null) {
             return null;
         }
 
-        Iterator<ValuedPlacement> placementIter = placements.iterator();
-        ValuedPlacement highScorePlacement = placementIter.next();
-
         if (!hasEnablingLetters(highScorePlacement)) {
             LOGGER.trace("Selecting highest score placement since it has no enabling letters");
             return highScorePlacement;
@@ -164,19 +180,14 @@ public class SaveEnablingLettersStrategy extends HighestScoreStrategy
                 : (int) Math.round(maxPoints * (1 - maxPointSacrificePercent));
         LOGGER.trace("Looking for a placement without enabling letters that provides at least {} point(s)", minPoints);
 
-        while (placementIter.hasNext()) {
-            ValuedPlacement placement = placementIter.next();
-            if (placement.getPoints() < minPoints) {
-                LOGGER.trace("No placements available with no enabling letters above the minimum score");
-                break;
-            }
-
-            if (!hasEnablingLetters(placement)) {
-                LOGGER.trace("Found a placement with no enabling letters yielding {} point(s)", placement.getPoints());
-                return placement;
-            }
+        ValuedPlacement bestWithoutEnablingLetters = withoutEnablingLetters.getBest();
+        if (bestWithoutEnablingLetters != null && bestWithoutEnablingLetters.getPoints() >= minPoints) {
+            LOGGER.trace("Found a placement with no enabling letters yielding {} point(s)",
+                         bestWithoutEnablingLetters.getPoints());
+            return bestWithoutEnablingLetters;
         }
 
+        LOGGER.trace("No placements available with no enabling letters above the minimum score");
         LOGGER.trace("Selecting the highest score placement");
         return highScorePlacement;
     }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.Optional;
+
+import org.syphr.wordplay.core.component.Placement;
+
+/**
+ * The outcome of a time limited search for a robot's next placement.
+ *
+ * @param placement the selected placement or <code>null</code> if none was
+ *                  found
+ * @param complete  <code>true</code> if the search finished before its deadline;
+ *                  <code>false</code> if the placement was selected from those
+ *                  found before time ran out
+ *
+ * @author Gregory P. Moyer
+ */
+public record SearchResult(Placement placement, boolean complete)
+{
+    /**
+     * Retrieve the selected placement, if any.
+     *
+     * @return the placement
+     */
+    public Optional<Placement> getPlacement()
+    {
+        return Optional.ofNullable(placement);
+    }
+
+    public boolean isComplete()
+    {
+        return complete;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.syphr.wordplay.core.component.ValuedPlacement;
+
+/**
+ * Feeds placements found by any number of threads to a {@link RobotStrategy}
+ * one at a time, and remembers when the strategy has seen enough or the
+ * deadline has passed so that the search can stop early.
+ *
+ * @author Gregory P. Moyer
+ */
+@ThreadSafe
+class StrategySink implements Consumer<ValuedPlacement>
+{
+    private final RobotStrategy strategy;
+
+    /**
+     * Serializes calls to the strategy. A lock is used rather than a monitor so
+     * that virtual threads waiting on it are not pinned.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Time left before a deadline beyond which it is treated as no deadline at
+     * all. This keeps every deadline close enough to {@link System#nanoTime()}
+     * that the difference between them cannot overflow.
+     */
+    private static final long MAX_REMAINING_NANOS = Long.MAX_VALUE / 4;
+
+    /**
+     * The deadline relative to {@link System#nanoTime()}, which is cheaper to read
+     * than the wall clock. It may wrap, so it is only ever compared to the current
+     * time by subtraction.
+     */
+    private final long deadline;
+    private final boolean hasDeadline;
+
+    private volatile boolean done;
+    private volatile boolean expired;
+
+    /**
+     * Construct a new sink without a deadline for the given strategy, resetting
+     * the strategy.
+     *
+     * @param strategy the strategy that will receive placements
+     */
+    public StrategySink(RobotStrategy strategy)
+    {
+        this(strategy, null);
+    }
+
+    /**
+     * Construct a new sink for the given strategy, resetting the strategy.
+     *
+     * @param strategy the strategy that will receive placements
+     * @param deadline the time at which the search must stop or <code>null</code>
+     *                 for no limit
+     */
+    public StrategySink(RobotStrategy strategy, Instant deadline)
+    {
+        this.strategy = strategy;
+        strategy.reset();
+
+        long now = System.nanoTime();
+        long remaining = deadline == null ? Long.MAX_VALUE : toNanos(Duration.between(Instant.now(), deadline));
+        this.hasDeadline = remaining != Long.MAX_VALUE;
+        this.deadline = hasDeadline ? now + remaining : 0;
+    }
+
+    private static long toNanos(Duration duration)
+    {
+        /*
+         * Deadlines decades away are treated as no deadline at all.
+         */
+        if (duration.getSeconds() >= MAX_REMAINING_NANOS / 1_000_000_000L) {
+            return Long.MAX_VALUE;
+        }
+        if (duration.isNegative()) {
+            return 0;
+        }
+
+        return duration.toNanos();
+    }
+
+    @Override
+    public void accept(ValuedPlacement placement)
+    {
+        offer(placement);
+    }
+
+    /**
+     * Pass the given placement to the strategy unless it has already seen enough.
+     *
+     * @param placement the placement
+     *
+     * @return <code>true</code> if the search should continue; <code>false</code>
+     *         otherwise
+     */
+    public boolean offer(ValuedPlacement placement)
+    {
+        if (isDone()) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (!done && !strategy.accept(placement)) {
+                done = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return !done;
+    }
+
+    /**
+     * Determine whether or not the search can stop, either because the strategy
+     * has seen enough placements or because the deadline has passed.
+     *
+     * @return <code>true</code> if the search can stop; <code>false</code>
+     *         otherwise
+     */
+    public boolean isDone()
+    {
+        if (!done && getRemainingNanos() == 0) {
+            expire();
+        }
+
+        return done;
+    }
+
+    /**
+     * Determine whether or not the search was stopped by its deadline.
+     *
+     * @return <code>true</code> if the deadline passed before the search finished;
+     *         <code>false</code> otherwise
+     */
+    public boolean isExpired()
+    {
+        return expired;
+    }
+
+    /**
+     * Retrieve the time left before the deadline.
+     *
+     * @return the remaining nanoseconds, or {@link Long#MAX_VALUE} if there is no
+     *         deadline
+     */
+    public long getRemainingNanos()
+    {
+        if (!hasDeadline) {
+            return Long.MAX_VALUE;
+        }
+
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    /**
+     * Stop the search because the deadline has passed. Once this returns, the
+     * strategy will not receive any more placements.
+     */
+    public void expire()
+    {
+        lock.lock();
+        try {
+            if (!done) {
+                expired = true;
+                done = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
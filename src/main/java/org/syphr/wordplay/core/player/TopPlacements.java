@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.syphr.wordplay.core.component.ValuedPlacement;
+
+/**
+ * A fixed size collection of the best placements offered to it, ranked by
+ * points with ties broken by letters. The placements are kept in a heap with
+ * the worst of them at the root, so memory use does not depend on the number of
+ * placements offered and most placements are rejected by comparing a single
+ * <code>int</code>.
+ * <p>
+ * Instances are not thread safe. Threads that find placements concurrently can
+ * each fill their own instance and {@link #merge(TopPlacements) merge} them
+ * once they are done.
+ *
+ * @author Gregory P. Moyer
+ */
+@NotThreadSafe
+public class TopPlacements
+{
+    private final int[] points;
+    private final ValuedPlacement[] placements;
+
+    private int size;
+
+    /**
+     * Construct a new collection that will keep at most the given number of
+     * placements.
+     *
+     * @param capacity the maximum number of placements to keep
+     * @throws IllegalArgumentException if the capacity is less than one
+     */
+    public TopPlacements(int capacity)
+    {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+
+        points = new int[capacity];
+        placements = new ValuedPlacement[capacity];
+    }
+
+    /**
+     * Keep the given placement if it is among the best placements offered so far.
+     * If this collection is full, the worst placement is dropped to make room.
+     *
+     * @param placement the placement
+     * @return <code>true</code> if the placement was kept; <code>false</code>
+     *         otherwise
+     */
+    public boolean offer(ValuedPlacement placement)
+    {
+        int value = placement.getPoints();
+
+        if (size < placements.length) {
+            points[size] = value;
+            placements[size] = placement;
+            siftUp(size++);
+            return true;
+        }
+
+        if (value < points[0]
+            || (value == points[0] && HighestScoreStrategy.PLACEMENT_COMPARATOR.compare(placement, placements[0]) >= 0)) {
+            return false;
+        }
+
+        points[0] = value;
+        placements[0] = placement;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * Offer every placement kept by the given collection to this one.
+     *
+     * @param other the collection to merge into this one
+     */
+    public void merge(TopPlacements other)
+    {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.placements[i]);
+        }
+    }
+
+    /**
+     * Retrieve the fewest points a placement can have and still be kept. Until
+     * this collection is full, any placement is kept.
+     *
+     * @return the minimum points
+     */
+    public int getMinPoints()
+    {
+        return size < placements.length ? Integer.MIN_VALUE : points[0];
+    }
+
+    /**
+     * Retrieve the best placement kept.
+     *
+     * @return the best placement or <code>null</code> if there are none
+     */
+    public ValuedPlacement getBest()
+    {
+        ValuedPlacement best = null;
+        for (int i = 0; i < size; i++) {
+            if (best == null || HighestScoreStrategy.PLACEMENT_COMPARATOR.compare(placements[i], best) < 0) {
+                best = placements[i];
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Retrieve the placements kept, from best to worst.
+     *
+     * @return the placements
+     */
+    public List<ValuedPlacement> toList()
+    {
+        ValuedPlacement[] sorted = Arrays.copyOf(placements, size);
+        Arrays.sort(sorted, HighestScoreStrategy.PLACEMENT_COMPARATOR);
+
+        return List.of(sorted);
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int getCapacity()
+    {
+        return placements.length;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(placements, 0, size, null);
+        size = 0;
+    }
+
+    private void siftUp(int index)
+    {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(index, parent)) {
+                return;
+            }
+
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index)
+    {
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+
+            if (left < size && isWorse(left, worst)) {
+                worst = left;
+            }
+            if (right < size && isWorse(right, worst)) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private boolean isWorse(int i, int j)
+    {
+        if (points[i] != points[j]) {
+            return points[i] < points[j];
+        }
+
+        return HighestScoreStrategy.PLACEMENT_COMPARATOR.compare(placements[i], placements[j]) > 0;
+    }
+
+    private void swap(int i, int j)
+    {
+        int tempPoints = points[i];
+        points[i] = points[j];
+        points[j] = tempPoints;
+
+        ValuedPlacement tempPlacement = placements[i];
+        placements[i] = placements[j];
+        placements[j] = tempPlacement;
+    }
+}
@@ -26,6 +26,11 @@ import lombok.ToString;
 
 /**
  * Defines a path between start and end {@link Location} instances.
+ * <p>
+ * When the locations are {@link Segment#isAligned(Location, Location)
+ * aligned}, as they are for words along the standard orientations, the path is
+ * held as a {@link Segment} and its locations are never computed. Otherwise,
+ * the locations are found by stepping from start to end and kept in a set.
  */
 @ThreadSafe
 @Immutable
@@ -33,6 +38,16 @@ import lombok.ToString;
 @ToString
 public final class Line
 {
+    /**
+     * The path when it is aligned, running from the lesser location to the
+     * greater, or <code>null</code> if it is not.
+     */
+    private final Segment segment;
+
+    /**
+     * The locations of the path when it is not aligned, or <code>null</code> if
+     * it is.
+     */
     private final NavigableSet<Location> locations;
 
     public static Line between(Location start, Location end)
@@ -42,7 +57,13 @@ public final class Line
 
     public Line(Location start, Location end)
     {
-        locations = findLocations(start, end);
+        if (Segment.isAligned(start, end)) {
+            segment = start.compareTo(end) <= 0 ? Segment.between(start, end) : Segment.between(end, start);
+            locations = null;
+        } else {
+            segment = null;
+            locations = findLocations(start, end);
+        }
     }
 
     private NavigableSet<Location> findLocations(Location start, Location end)
@@ -73,16 +94,16 @@ public final class Line
 
     public Location start()
     {
-        return locations.getFirst();
+        return segment != null ? segment.start() : locations.getFirst();
     }
 
     public Location end()
     {
-        return locations.getLast();
+        return segment != null ? segment.end() : locations.getLast();
     }
 
     public boolean contains(Location l)
     {
-        return locations.contains(l);
+        return segment != null ? segment.contains(l) : locations.contains(l);
     }
 }
@@ -18,9 +18,29 @@ package org.syphr.wordplay.core.space;
 /**
  * Location defines a point in space without concern for what may or may not be
  * at that location.
+ * <p>
+ * Much like {@link Integer#valueOf(int)}, {@link #at(int, int, int)} returns a
+ * shared instance for each location with coordinates from zero up to
+ * {@link #CACHE_SIZE} (exclusive), which covers every tile of the boards in
+ * common use. Locations on those boards are then usually the same instance, so
+ * comparing them for equality is a reference check. Locations outside of that
+ * range, such as those just off the edge of a board, are created as needed.
  */
 public record Location(int x, int y, int z) implements Comparable<Location>
 {
+    /**
+     * The number of coordinates along each axis for which shared instances are
+     * kept.
+     */
+    public static final int CACHE_SIZE = 32;
+
+    /**
+     * The shared instances, created as they are first requested. A race to
+     * create one is harmless, since both results are equal and a record is
+     * safely published through its final fields.
+     */
+    private static final Location[] CACHE = new Location[CACHE_SIZE * CACHE_SIZE * CACHE_SIZE];
+
     public static Location at(int x, int y)
     {
         return at(x, y, 0);
@@ -28,7 +48,18 @@ public record Location(int x, int y, int z) implements Comparable<Location>
 
     public static Location at(int x, int y, int z)
     {
-        return new Location(x, y, z);
+        if ((x | y | z) < 0 || x >= CACHE_SIZE || y >= CACHE_SIZE || z >= CACHE_SIZE) {
+            return new Location(x, y, z);
+        }
+
+        int index = x + CACHE_SIZE * (y + CACHE_SIZE * z);
+        Location location = CACHE[index];
+        if (location == null) {
+            location = new Location(x, y, z);
+            CACHE[index] = location;
+        }
+
+        return location;
     }
 
     public Location move(Vector vector)
@@ -46,6 +77,26 @@ public record Location(int x, int y, int z) implements Comparable<Location>
                && Math.abs(z - otherZ) <= distance.z();
     }
 
+    /**
+     * Shared instances make the reference check the common case, so it is made
+     * before the coordinates are compared.
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) {
+            return true;
+        }
+
+        return obj instanceof Location other && x == other.x && y == other.y && z == other.z;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (x * 31 + y) * 31 + z;
+    }
+
     @Override
     public int compareTo(Location o)
     {
@@ -39,6 +39,87 @@ public interface Orientation
      */
     Location move(Location location, int amount);
 
+    /**
+     * Move from the given {@link PackedLocation packed location} by the provided
+     * amount along the line defined by this orientation. The default
+     * implementation converts to and from {@link Location}, so implementations
+     * should move the packed location directly.
+     * 
+     * @param packed the starting packed location
+     * @param amount length of the move (can be negative or positive)
+     * 
+     * @return the ending packed location after the move
+     */
+    default long move(long packed, int amount)
+    {
+        return PackedLocation.pack(move(PackedLocation.unpack(packed), amount));
+    }
+
+    /**
+     * Retrieve the vector of a single step along the line defined by this
+     * orientation, which is the move made by {@link #move(Location, int)} with an
+     * amount of 1. The default implementation finds it by making that move from
+     * the origin, so implementations should return a constant.
+     * 
+     * @return the unit vector
+     */
+    default Vector getUnitVector()
+    {
+        Location origin = Location.at(0, 0, 0);
+        return Vector.from(origin, move(origin, 1));
+    }
+
+    /**
+     * Retrieve the difference in index made by a single step along the line
+     * defined by this orientation, for locations stored in a flat array of the
+     * given dimension at the index <code>x + width * (y + height * z)</code>.
+     * Code walking such an array can then step by adding the stride, as long as
+     * it stays within {@link #getStepsToEdge(Dimension, Location) the edge}.
+     * 
+     * @param dimension the dimension of the array
+     * 
+     * @return the stride
+     */
+    default int getStride(Dimension dimension)
+    {
+        Vector unit = getUnitVector();
+        return unit.x() + dimension.width() * (unit.y() + dimension.height() * unit.z());
+    }
+
+    /**
+     * Determine how many single steps along the line defined by this orientation,
+     * in the given direction, can be taken from the given location before leaving
+     * the given dimension.
+     * 
+     * @param dimension the dimension
+     * @param location  the starting location, which must be within the dimension
+     * @param direction 1 to step forward or -1 to step backward
+     * 
+     * @return the number of steps that stay within the dimension
+     */
+    default int getStepsToEdge(Dimension dimension, Location location, int direction)
+    {
+        Vector unit = getUnitVector();
+        int steps = Integer.MAX_VALUE;
+        steps = Math.min(steps, stepsToEdge(location.x(), unit.x() * direction, dimension.width()));
+        steps = Math.min(steps, stepsToEdge(location.y(), unit.y() * direction, dimension.height()));
+        steps = Math.min(steps, stepsToEdge(location.z(), unit.z() * direction, dimension.depth()));
+
+        return steps;
+    }
+
+    private static int stepsToEdge(int coordinate, int step, int size)
+    {
+        if (step > 0) {
+            return (size - 1 - coordinate) / step;
+        }
+        if (step < 0) {
+            return coordinate / -step;
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * Determine if the given distance exists entirely within the line defined by
      * this orientation.
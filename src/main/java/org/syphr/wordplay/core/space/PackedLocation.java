@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.space;
+
+/**
+ * Utilities for holding a {@link Location} in a single <code>long</code>, so
+ * that code walking the board can move, compare and test locations without
+ * creating an object for each one. The public API remains record based; a
+ * packed location is converted with {@link #pack(Location)} and
+ * {@link #unpack(long)} at its edges.
+ * <p>
+ * Each coordinate takes 21 bits, offset so that it is never negative, with x in
+ * the highest bits and z in the lowest. As a result, packed locations compare
+ * as <code>long</code>s in the same order as {@link Location#compareTo}, and a
+ * move is a single addition. Coordinates must be between {@link #MIN} and
+ * {@link #MAX}, inclusive.
+ *
+ * @author Gregory P. Moyer
+ */
+public final class PackedLocation
+{
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final int OFFSET = 1 << (BITS - 1);
+
+    private static final int Y_SHIFT = BITS;
+    private static final int X_SHIFT = BITS * 2;
+
+    /**
+     * The least coordinate that can be packed.
+     */
+    public static final int MIN = -OFFSET;
+
+    /**
+     * The greatest coordinate that can be packed.
+     */
+    public static final int MAX = OFFSET - 1;
+
+    private PackedLocation()
+    {
+        /*
+         * Static utilities
+         */
+    }
+
+    /**
+     * Pack the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     *
+     * @return the packed location
+     */
+    public static long pack(int x, int y, int z)
+    {
+        return ((x + OFFSET) & MASK) << X_SHIFT | ((y + OFFSET) & MASK) << Y_SHIFT | ((z + OFFSET) & MASK);
+    }
+
+    /**
+     * Pack the given location.
+     *
+     * @param location the location
+     *
+     * @return the packed location
+     */
+    public static long pack(Location location)
+    {
+        return pack(location.x(), location.y(), location.z());
+    }
+
+    /**
+     * Convert the given packed location back to a location.
+     *
+     * @param packed the packed location
+     *
+     * @return the location
+     */
+    public static Location unpack(long packed)
+    {
+        return Location.at(x(packed), y(packed), z(packed));
+    }
+
+    /**
+     * Retrieve the x coordinate of the given packed location.
+     *
+     * @param packed the packed location
+     *
+     * @return the x coordinate
+     */
+    public static int x(long packed)
+    {
+        return (int) ((packed >>> X_SHIFT) & MASK) - OFFSET;
+    }
+
+    /**
+     * Retrieve the y coordinate of the given packed location.
+     *
+     * @param packed the packed location
+     *
+     * @return the y coordinate
+     */
+    public static int y(long packed)
+    {
+        return (int) ((packed >>> Y_SHIFT) & MASK) - OFFSET;
+    }
+
+    /**
+     * Retrieve the z coordinate of the given packed location.
+     *
+     * @param packed the packed location
+     *
+     * @return the z coordinate
+     */
+    public static int z(long packed)
+    {
+        return (int) (packed & MASK) - OFFSET;
+    }
+
+    /**
+     * Move the given packed location by the given amounts. The result must still
+     * be within the range that can be packed.
+     *
+     * @param packed the packed location
+     * @param dx     the amount to move along the x axis
+     * @param dy     the amount to move along the y axis
+     * @param dz     the amount to move along the z axis
+     *
+     * @return the packed location after the move
+     */
+    public static long move(long packed, int dx, int dy, int dz)
+    {
+        return packed + ((long) dx << X_SHIFT) + ((long) dy << Y_SHIFT) + dz;
+    }
+
+    /**
+     * Compare two packed locations in the same order as
+     * {@link Location#compareTo(Location)}.
+     *
+     * @param a the first packed location
+     * @param b the second packed location
+     *
+     * @return a negative number, zero or a positive number as the first location
+     *         is less than, equal to or greater than the second
+     */
+    public static int compare(long a, long b)
+    {
+        return Long.compare(a, b);
+    }
+
+    /**
+     * Determine whether or not the given packed location is within the given
+     * dimension.
+     *
+     * @param dimension the dimension
+     * @param packed    the packed location
+     *
+     * @return <code>true</code> if the location is within the dimension;
+     *         <code>false</code> otherwise
+     *
+     * @see Dimension#contains(Location)
+     */
+    public static boolean contains(Dimension dimension, long packed)
+    {
+        int x = x(packed);
+        int y = y(packed);
+        int z = z(packed);
+
+        return x >= 0 && x < dimension.width() && y >= 0 && y < dimension.height() && z >= 0 && z < dimension.depth();
+    }
+
+    /**
+     * Determine whether or not two packed locations are within the given
+     * distance of each other along every axis.
+     *
+     * @param a        the first packed location
+     * @param b        the second packed location
+     * @param distance the distance
+     *
+     * @return <code>true</code> if the locations are within the distance;
+     *         <code>false</code> otherwise
+     *
+     * @see Location#isWithin(Distance, Location)
+     */
+    public static boolean isWithin(long a, long b, Distance distance)
+    {
+        return Math.abs(x(a) - x(b)) <= distance.x()
+               && Math.abs(y(a) - y(b)) <= distance.y()
+               && Math.abs(z(a) - z(b)) <= distance.z();
+    }
+
+    /**
+     * Compute the distance between two packed locations.
+     *
+     * @param a the first packed location
+     * @param b the second packed location
+     *
+     * @return the distance
+     *
+     * @see Distance#between(Location, Location)
+     */
+    public static Distance distance(long a, long b)
+    {
+        return Distance.of(x(b) - x(a), y(b) - y(a), z(b) - z(a));
+    }
+}
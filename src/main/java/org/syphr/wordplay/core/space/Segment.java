@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.space;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A run of consecutive locations that starts at a location and takes a number
+ * of unit steps in one direction, where each step moves by -1, 0 or 1 along
+ * each axis. This covers every word along the standard orientations, as well as
+ * exact diagonals. Since only the start, the step and the length are stored,
+ * membership is answered arithmetically without visiting the locations.
+ *
+ * @param start  the first location
+ * @param dx     the step along the x axis
+ * @param dy     the step along the y axis
+ * @param dz     the step along the z axis
+ * @param length the number of locations, which is at least 1
+ */
+@Immutable
+public record Segment(Location start, int dx, int dy, int dz, int length)
+{
+    public Segment
+    {
+        if (Math.abs(dx) > 1 || Math.abs(dy) > 1 || Math.abs(dz) > 1) {
+            throw new IllegalArgumentException("Each step must be -1, 0 or 1: " + dx + ", " + dy + ", " + dz);
+        }
+        if (length < 1) {
+            throw new IllegalArgumentException("A segment holds at least one location: " + length);
+        }
+        if (length > 1 && dx == 0 && dy == 0 && dz == 0) {
+            throw new IllegalArgumentException("A segment of more than one location must have a step");
+        }
+    }
+
+    /**
+     * Determine whether or not the given locations can be joined by a segment,
+     * which is when they differ by the same amount along every axis on which
+     * they differ at all.
+     *
+     * @param start the start location
+     * @param end   the end location
+     *
+     * @return <code>true</code> if a segment joins the locations;
+     *         <code>false</code> otherwise
+     */
+    public static boolean isAligned(Location start, Location end)
+    {
+        int ax = Math.abs(end.x() - start.x());
+        int ay = Math.abs(end.y() - start.y());
+        int az = Math.abs(end.z() - start.z());
+        int steps = Math.max(ax, Math.max(ay, az));
+
+        return (ax == 0 || ax == steps) && (ay == 0 || ay == steps) && (az == 0 || az == steps);
+    }
+
+    /**
+     * Create the segment from the start location to the end location,
+     * inclusive.
+     *
+     * @param start the start location
+     * @param end   the end location
+     *
+     * @return the segment
+     *
+     * @throws IllegalArgumentException if the locations are not
+     *                                  {@link #isAligned(Location, Location)
+     *                                  aligned}
+     */
+    public static Segment between(Location start, Location end)
+    {
+        if (!isAligned(start, end)) {
+            throw new IllegalArgumentException("No segment joins " + start + " and " + end);
+        }
+
+        int x = end.x() - start.x();
+        int y = end.y() - start.y();
+        int z = end.z() - start.z();
+        int steps = Math.max(Math.abs(x), Math.max(Math.abs(y), Math.abs(z)));
+
+        return new Segment(start, Integer.signum(x), Integer.signum(y), Integer.signum(z), steps + 1);
+    }
+
+    /**
+     * Retrieve the last location.
+     *
+     * @return the end location
+     */
+    public Location end()
+    {
+        int steps = length - 1;
+        return Location.at(start.x() + steps * dx, start.y() + steps * dy, start.z() + steps * dz);
+    }
+
+    /**
+     * Determine whether or not the given location is one of the locations of this
+     * segment.
+     *
+     * @param location the location to test
+     *
+     * @return <code>true</code> if the location is in this segment;
+     *         <code>false</code> otherwise
+     */
+    public boolean contains(Location location)
+    {
+        int x = location.x() - start.x();
+        int y = location.y() - start.y();
+        int z = location.z() - start.z();
+
+        int steps;
+        if (dx != 0) {
+            steps = x * dx;
+        } else if (dy != 0) {
+            steps = y * dy;
+        } else {
+            steps = z * dz;
+        }
+
+        return steps >= 0 && steps < length && x == steps * dx && y == steps * dy && z == steps * dz;
+    }
+}
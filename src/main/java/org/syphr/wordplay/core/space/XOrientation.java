@@ -19,6 +19,8 @@ package org.syphr.wordplay.core.space;
 {
     private static final XOrientation INSTANCE = new XOrientation();
 
+    private static final Vector UNIT = Vector.of(1, 0, 0);
+
     public static XOrientation instance()
     {
         return INSTANCE;
@@ -32,7 +34,19 @@ package org.syphr.wordplay.core.space;
     @Override
     public Location move(Location location, int amount)
     {
-        return location.move(Vector.of(amount, 0, 0));
+        return Location.at(location.x() + amount, location.y(), location.z());
+    }
+
+    @Override
+    public long move(long packed, int amount)
+    {
+        return PackedLocation.move(packed, amount, 0, 0);
+    }
+
+    @Override
+    public Vector getUnitVector()
+    {
+        return UNIT;
     }
 
     @Override
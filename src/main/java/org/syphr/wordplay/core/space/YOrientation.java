@@ -19,6 +19,8 @@ package org.syphr.wordplay.core.space;
 {
     private static final YOrientation INSTANCE = new YOrientation();
 
+    private static final Vector UNIT = Vector.of(0, 1, 0);
+
     public static YOrientation instance()
     {
         return INSTANCE;
@@ -32,7 +34,19 @@ package org.syphr.wordplay.core.space;
     @Override
     public Location move(Location location, int amount)
     {
-        return location.move(Vector.of(0, amount, 0));
+        return Location.at(location.x(), location.y() + amount, location.z());
+    }
+
+    @Override
+    public long move(long packed, int amount)
+    {
+        return PackedLocation.move(packed, 0, amount, 0);
+    }
+
+    @Override
+    public Vector getUnitVector()
+    {
+        return UNIT;
     }
 
     @Override
@@ -19,6 +19,8 @@ package org.syphr.wordplay.core.space;
 {
     private static final ZOrientation INSTANCE = new ZOrientation();
 
+    private static final Vector UNIT = Vector.of(0, 0, 1);
+
     public static ZOrientation instance()
     {
         return INSTANCE;
@@ -32,7 +34,19 @@ package org.syphr.wordplay.core.space;
     @Override
     public Location move(Location location, int amount)
     {
-        return location.move(Vector.of(0, 0, amount));
+        return Location.at(location.x(), location.y(), location.z() + amount);
+    }
+
+    @Override
+    public long move(long packed, int amount)
+    {
+        return PackedLocation.move(packed, 0, 0, amount);
+    }
+
+    @Override
+    public Vector getUnitVector()
+    {
+        return UNIT;
     }
 
     @Override
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+
+class ArrayTileSetTest
+{
+    @Test
+    void construct_NullDimension()
+    {
+        // when
+        var result = catchThrowable(() -> new ArrayTileSet(null, mock(TileFactory.class)));
+
+        // then
+        assertThat(result).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getTile_OnBoard()
+    {
+        // given
+        var location = Location.at(1, 2, 1);
+        var tileSet = tileSet(mock(Configuration.class));
+
+        // when
+        Tile result = tileSet.getTile(location);
+
+        // then
+        assertAll(() -> assertThat(result.getLocation()).isEqualTo(location),
+                  () -> assertThat(tileSet.getTile(location)).isSameAs(result),
+                  () -> assertThat(tileSet.getTile(1, 2, 1)).isSameAs(result));
+    }
+
+    @Test
+    void getTile_OffBoard()
+    {
+        // given
+        var tileSet = tileSet(mock(Configuration.class));
+
+        // when
+        Tile result = tileSet.getTile(Location.at(-1, 0, 0));
+
+        // then
+        assertAll(() -> assertThat(result).isSameAs(WallTile.INSTANCE),
+                  () -> assertThat(result.hasPiece()).isFalse(),
+                  () -> assertThat(tileSet.getTile(3, 0, 0)).isSameAs(result));
+    }
+
+    @Test
+    void getTile_Attributes()
+    {
+        // given
+        var location = Location.at(2, 0, 1);
+        var attribute = mock(TileAttribute.class);
+        var configuration = mock(Configuration.class);
+        when(configuration.getTileAttributes(location)).thenReturn(Set.of(attribute));
+
+        var tileSet = tileSet(configuration);
+
+        // when
+        Tile result = tileSet.getTile(location);
+
+        // then
+        assertThat(result.getAttributes()).containsExactly(attribute);
+    }
+
+    @Test
+    void hasPiece()
+    {
+        // given
+        var tileSet = tileSet(mock(Configuration.class));
+        var piece = mock(Piece.class);
+        when(piece.getValue()).thenReturn(3);
+
+        // when
+        tileSet.getTile(Location.at(2, 1, 0)).setPiece(piece);
+
+        // then
+        assertAll(() -> assertThat(tileSet.hasPiece(2, 1, 0)).isTrue(),
+                  () -> assertThat(tileSet.hasPiece(Location.at(2, 1, 0))).isTrue(),
+                  () -> assertThat(tileSet.hasPiece(1, 2, 0)).isFalse(),
+                  () -> assertThat(tileSet.hasPiece(3, 1, 0)).isFalse(),
+                  () -> assertThat(tileSet.getTile(2, 1, 0).getPiece()).containsSame(piece),
+                  () -> assertThat(tileSet.getTile(2, 1, 0).getBaseValue()).isEqualTo(3));
+    }
+
+    @Test
+    void indexOf()
+    {
+        // given
+        var tileSet = tileSet(mock(Configuration.class));
+
+        // then
+        assertAll(() -> assertThat(tileSet.indexOf(0, 0, 0)).isZero(),
+                  () -> assertThat(tileSet.indexOf(1, 0, 0)).isEqualTo(1),
+                  () -> assertThat(tileSet.indexOf(0, 1, 0)).isEqualTo(3),
+                  () -> assertThat(tileSet.indexOf(0, 0, 1)).isEqualTo(9),
+                  () -> assertThat(tileSet.indexOf(Location.at(2, 2, 1))).isEqualTo(17),
+                  () -> assertThat(tileSet.indexOf(3, 0, 0)).isEqualTo(-1),
+                  () -> assertThat(tileSet.indexOf(0, -1, 0)).isEqualTo(-1),
+                  () -> assertThat(tileSet.indexOf(0, 0, 2)).isEqualTo(-1));
+    }
+
+    @Test
+    void getOccupiedTiles()
+    {
+        // given
+        var tileSet = tileSet(mock(Configuration.class));
+        Tile tile1 = tileSet.getTile(Location.at(2, 0, 0));
+        Tile tile2 = tileSet.getTile(Location.at(0, 1, 0));
+
+        tile1.setPiece(mock(Piece.class));
+        tile2.setPiece(mock(Piece.class));
+
+        // when
+        Set<Tile> result = tileSet.getOccupiedTiles();
+
+        // then
+        assertThat(result).containsExactly(tile2, tile1);
+    }
+
+    @Test
+    void clear()
+    {
+        // given
+        var tileSet = tileSet(mock(Configuration.class));
+        Tile tile = tileSet.getTile(Location.at(1, 1, 1));
+        tile.setPiece(mock(Piece.class));
+        tile.addAttribute(mock(TileAttribute.class));
+
+        // when
+        tileSet.clear();
+
+        // then
+        assertAll(() -> assertThat(tileSet.getOccupiedTiles()).isEmpty(),
+                  () -> assertThat(tileSet.getTile(Location.at(1, 1, 1)).getAttributes()).isEmpty());
+    }
+
+    private ArrayTileSet tileSet(Configuration configuration)
+    {
+        return new ArrayTileSet(Dimension.of(3, 3, 2), new TileFactoryImpl(configuration));
+    }
+}
@@ -249,6 +249,27 @@ public class BagImplTest implements WithAssertions
         assertThat(bag.getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void getHash() throws NoSuchPieceException
+    {
+        Letter a = letter('A');
+        Letter b = letter('B');
+
+        HashMultiset<Letter> letters = HashMultiset.create();
+        letters.add(a, 2);
+        letters.add(b);
+        BagImpl bag = bag(letters);
+
+        // then
+        assertThat(bag.getHash()).isEqualTo(2 * Zobrist.pool(a) + Zobrist.pool(b));
+
+        // when
+        bag.getPiece(a);
+
+        // then
+        assertThat(bag.getHash()).isEqualTo(Zobrist.pool(a) + Zobrist.pool(b));
+    }
+
     private BagImpl bag()
     {
         return bag(HashMultiset.create());
@@ -259,6 +280,14 @@ public class BagImplTest implements WithAssertions
         return new BagImpl(letters, pieceFactory, random);
     }
 
+    private Letter letter(char character)
+    {
+        Letter letter = mock(Letter.class);
+        lenient().when(letter.getCharacter()).thenReturn(character);
+
+        return letter;
+    }
+
     private Piece piece(Letter letter)
     {
         Piece piece = mock(Piece.class);
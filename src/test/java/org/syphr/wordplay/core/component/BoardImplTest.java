@@ -30,12 +30,15 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,11 +46,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mock;
-import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
 import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.lang.DawgDictionary;
 import org.syphr.wordplay.core.lang.Dictionary;
+import org.syphr.wordplay.core.lang.Letter;
 import org.syphr.wordplay.core.space.Dimension;
 import org.syphr.wordplay.core.space.Location;
 import org.syphr.wordplay.core.space.Orientation;
@@ -209,6 +212,91 @@ public class BoardImplTest implements WithAssertions
         verify(scoreCalc).getScore(any(), eq(words), eq(attributes));
     }
 
+    @Test
+    public void evaluate_LocationInvalid()
+    {
+        BoardImpl board = spy(board());
+        doReturn(new TreeMap<>(Map.of())).when(board).getPieces(any());
+        doReturn(false).when(board).isLocationSetValid(any());
+
+        assertThat(board.evaluate(mock(Placement.class))).isEqualTo(Evaluation.INVALID);
+    }
+
+    @Test
+    public void evaluate_Valid()
+    {
+        Set<Word> words = Set.of(mock(Word.class), mock(Word.class));
+        when(wordFactory.getWords(any(), any(), any())).thenReturn(words);
+        when(scoreCalc.getScore(any(), any(), any())).thenReturn(7);
+
+        BoardImpl board = spy(board());
+        doReturn(true).when(board).isLocationSetValid(any());
+        doReturn(true).when(board).isWordSetValid(any());
+
+        Placement placement = new PlacementImpl(Location.at(0, 0, 0), Orientations.x(), List.of(mock(Piece.class)));
+        long evaluation = board.evaluate(placement);
+
+        assertThat(Evaluation.isValid(evaluation)).isTrue();
+        assertThat(Evaluation.getPoints(evaluation)).isEqualTo(7);
+        assertThat(Evaluation.getWordCount(evaluation)).isEqualTo(2);
+    }
+
+    @Test
+    public void evaluate_MatchesIsValidAndCalculatePoints() throws PlacementException
+    {
+        BoardImpl board = attributedBoard(DawgDictionary.of(List.of("AT", "CAT", "CATS", "SCAT", "TA")));
+        board.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+
+        assertThat(placements()).allSatisfy(placement -> assertEvaluation(board, placement))
+                                .anyMatch(placement -> Evaluation.getWordCount(board.evaluate(placement)) > 1);
+    }
+
+    @Test
+    public void evaluate_MatchesIsValid_CustomDictionary() throws PlacementException
+    {
+        /*
+         * Words are listed in lower case but checked regardless of case, so checking
+         * them by walking a graph of the listed words would reject them all.
+         */
+        Set<String> words = Set.of("at", "cat", "cats", "scat", "ta");
+        Dictionary custom = mock(Dictionary.class);
+        lenient().when(custom.isValid(any())).thenAnswer(invocation -> words.contains(invocation.<String>getArgument(0)
+                                                                                                .toLowerCase()));
+        lenient().when(custom.getWords()).thenReturn(words);
+
+        BoardImpl board = attributedBoard(custom);
+        board.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+
+        assertThat(placements()).allSatisfy(placement -> assertEvaluation(board, placement)).anyMatch(board::isValid);
+    }
+
+    @Test
+    public void evaluate_OffBoard() throws PlacementException
+    {
+        Dimension dimension = Dimension.of(6, 6);
+        List<Location> created = new ArrayList<>();
+        TileFactory tileFactory = location -> {
+            created.add(location);
+            return new TileImpl(location);
+        };
+        BoardImpl board = new BoardImpl(dimension,
+                                        Orientations.xy(),
+                                        Location.at(2, 2),
+                                        () -> new TileSetImpl(tileFactory),
+                                        new WordFactoryImpl(),
+                                        DawgDictionary.of(List.of("AT", "CAT", "CATS", "SCAT", "TA")),
+                                        new ScoreCalculatorImpl(7, 50));
+        board.place(placement(Location.at(2, 2), Orientations.x(), "CAT"));
+
+        /*
+         * This tile set creates a tile for any location requested, so checking a
+         * placement must not request any off the board.
+         */
+        assertThat(board.evaluate(placement(Location.at(4, 4), Orientations.x(), "CATS"))).isEqualTo(Evaluation.INVALID);
+        assertThat(Evaluation.isValid(board.evaluate(placement(Location.at(5, 2), Orientations.x(), "S")))).isTrue();
+        assertThat(created).allMatch(dimension::contains);
+    }
+
     @Test
     public void calculatePoints()
     {
@@ -221,9 +309,6 @@ public class BoardImplTest implements WithAssertions
                                                                  Location.at(1, 0, 0),
                                                                  piece2));
 
-        Tile tile = mock(Tile.class);
-        when(tileSet.getTile(any())).thenReturn(tile);
-
         Set<Word> words = Set.of();
         when(wordFactory.getWords(pieces, Orientations.x(), board)).thenReturn(words);
 
@@ -239,9 +324,6 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void getPieces_PlacementX()
     {
-        Tile tile = mock(Tile.class);
-        when(tileSet.getTile(any())).thenReturn(tile);
-
         Piece piece1 = mock(Piece.class);
         Piece piece2 = mock(Piece.class);
         Placement placement = new PlacementImpl(Location.at(0, 0, 0), Orientations.x(), List.of(piece1, piece2));
@@ -256,9 +338,6 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void getPieces_PlacementY()
     {
-        Tile tile = mock(Tile.class);
-        when(tileSet.getTile(any())).thenReturn(tile);
-
         Piece piece1 = mock(Piece.class);
         Piece piece2 = mock(Piece.class);
         Placement placement = new PlacementImpl(Location.at(0, 0, 0), Orientations.y(), List.of(piece1, piece2));
@@ -273,9 +352,6 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void getPieces_PlacementZ()
     {
-        Tile tile = mock(Tile.class);
-        when(tileSet.getTile(any())).thenReturn(tile);
-
         Piece piece1 = mock(Piece.class);
         Piece piece2 = mock(Piece.class);
         Placement placement = new PlacementImpl(Location.at(0, 0, 0), Orientations.z(), List.of(piece1, piece2));
@@ -290,14 +366,7 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void getPieces_StepOverOccupiedTiles()
     {
-        Tile openTile = mock(Tile.class);
-        when(openTile.hasPiece()).thenReturn(false);
-
-        Tile occupiedTile = mock(Tile.class);
-        when(occupiedTile.hasPiece()).thenReturn(true);
-
-        when(tileSet.getTile(Location.at(1, 0, 0))).thenReturn(occupiedTile);
-        when(tileSet.getTile(Location.at(2, 0, 0))).thenReturn(openTile);
+        when(tileSet.hasPiece(Location.at(1, 0, 0))).thenReturn(true);
 
         Piece piece1 = mock(Piece.class);
         Piece piece2 = mock(Piece.class);
@@ -319,21 +388,7 @@ public class BoardImplTest implements WithAssertions
         doReturn(true).when(board).hasAdjacentPiece(any());
 
         // start tile is always occupied
-        when(tileSet.getTile(any())).thenAnswer(new Answer<Tile>()
-        {
-            @Override
-            public Tile answer(InvocationOnMock invocation) throws Throwable
-            {
-                Tile tile = mock(Tile.class);
-
-                Location l = invocation.getArgument(0);
-                if (start.equals(l)) {
-                    when(tile.hasPiece()).thenReturn(true);
-                }
-
-                return tile;
-            }
-        });
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> start.equals(invocation.getArgument(0)));
 
         Set<Location> locations = new HashSet<>();
 
@@ -421,21 +476,7 @@ public class BoardImplTest implements WithAssertions
     {
         // start tile is always occupied
         Location start = Location.at(0, 0, 0);
-        when(tileSet.getTile(any())).thenAnswer(new Answer<Tile>()
-        {
-            @Override
-            public Tile answer(InvocationOnMock invocation) throws Throwable
-            {
-                Tile tile = mock(Tile.class);
-
-                Location l = invocation.getArgument(0);
-                if (start.equals(l)) {
-                    when(tile.hasPiece()).thenReturn(true);
-                }
-
-                return tile;
-            }
-        });
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> start.equals(invocation.getArgument(0)));
 
         Set<Location> locations = Set.of(start.move(Vector.of(1, 0, 0)));
 
@@ -447,21 +488,7 @@ public class BoardImplTest implements WithAssertions
     {
         // start tile is always occupied
         Location start = Location.at(0, 0, 0);
-        when(tileSet.getTile(any())).thenAnswer(new Answer<Tile>()
-        {
-            @Override
-            public Tile answer(InvocationOnMock invocation) throws Throwable
-            {
-                Tile tile = mock(Tile.class);
-
-                Location l = invocation.getArgument(0);
-                if (start.equals(l)) {
-                    when(tile.hasPiece()).thenReturn(true);
-                }
-
-                return tile;
-            }
-        });
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> start.equals(invocation.getArgument(0)));
 
         Set<Location> locations = Set.of(start);
 
@@ -471,8 +498,6 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void isLocationSetValid_NoStart_NotPlacedOnStart() throws PlacementException
     {
-        when(tileSet.getTile(any())).thenReturn(mock(Tile.class));
-
         Location start = Location.at(0, 0, 0);
         Set<Location> locations = Set.of(start.move(Vector.of(1, 0, 0)));
 
@@ -482,8 +507,6 @@ public class BoardImplTest implements WithAssertions
     @Test
     public void isLocationSetValid_NoStart_PlacedOnStart() throws PlacementException
     {
-        when(tileSet.getTile(any())).thenReturn(mock(Tile.class));
-
         Location start = Location.at(0, 0, 0);
         Set<Location> locations = Set.of(start);
 
@@ -495,21 +518,7 @@ public class BoardImplTest implements WithAssertions
     {
         // start tile is always occupied
         Location start = Location.at(0, 0, 0);
-        when(tileSet.getTile(any())).thenAnswer(new Answer<Tile>()
-        {
-            @Override
-            public Tile answer(InvocationOnMock invocation) throws Throwable
-            {
-                Tile tile = mock(Tile.class);
-
-                Location l = invocation.getArgument(0);
-                if (start.equals(l)) {
-                    when(tile.hasPiece()).thenReturn(true);
-                }
-
-                return tile;
-            }
-        });
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> start.equals(invocation.getArgument(0)));
 
         Set<Location> locations = Set.of(start.move(Vector.of(2, 0, 0)));
 
@@ -578,21 +587,7 @@ public class BoardImplTest implements WithAssertions
     {
         // start tile is always occupied
         Location start = Location.at(1, 1, 1);
-        when(tileSet.getTile(any())).thenAnswer(new Answer<Tile>()
-        {
-            @Override
-            public Tile answer(InvocationOnMock invocation) throws Throwable
-            {
-                Tile tile = mock(Tile.class);
-
-                Location l = invocation.getArgument(0);
-                if (start.equals(l)) {
-                    when(tile.hasPiece()).thenReturn(true);
-                }
-
-                return tile;
-            }
-        });
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> start.equals(invocation.getArgument(0)));
 
         BoardImpl board = board(Dimension.of(3, 3, 3), Orientations.xyz(), start);
 
@@ -621,6 +616,19 @@ public class BoardImplTest implements WithAssertions
         assertTrue(board.hasAdjacentPiece(Location.at(1, 1, 2), Orientations.z()));
     }
 
+    @Test
+    public void hasAdjacentPiece_ReadsTiles()
+    {
+        BoardImpl board = board();
+        board.getOccupancy();
+
+        Location neighbor = Location.at(1, 1, 1);
+        when(tileSet.hasPiece(any(Location.class))).thenAnswer(invocation -> neighbor.equals(invocation.getArgument(0)));
+
+        assertTrue(board.hasAdjacentPiece(Location.at(1, 1, 0)));
+        assertFalse(board.hasAdjacentPiece(Location.at(0, 0, 0)));
+    }
+
     @Test
     public void updateTiles()
     {
@@ -642,6 +650,92 @@ public class BoardImplTest implements WithAssertions
         verify(tile2).setPiece(piece2);
     }
 
+    @Test
+    public void apply_Revert() throws PlacementException
+    {
+        Location location1 = Location.at(0, 0, 0);
+        Piece piece1 = mock(Piece.class);
+        Tile tile1 = mock(Tile.class);
+
+        Location location2 = Location.at(2, 0, 0);
+        Piece piece2 = mock(Piece.class);
+        Tile tile2 = mock(Tile.class);
+
+        Location occupied = Location.at(1, 0, 0);
+        when(tileSet.hasPiece(any())).thenAnswer(invocation -> occupied.equals(invocation.getArgument(0)));
+        when(tileSet.getTile(location1)).thenReturn(tile1);
+        when(tileSet.getTile(location2)).thenReturn(tile2);
+
+        Placement placement = new PlacementImpl(location1, Orientations.x(), List.of(piece1, piece2));
+        BoardImpl board = spy(board());
+        doReturn(Evaluation.of(7, 1)).when(board).evaluate(placement);
+
+        Undo undo = board.apply(placement);
+
+        assertThat(undo.getPoints()).isEqualTo(7);
+        verify(tile1).setPiece(piece1);
+        verify(tile2).setPiece(piece2);
+
+        board.revert(undo);
+
+        verify(tile1).setPiece(null);
+        verify(tile2).setPiece(null);
+    }
+
+    @Test
+    public void getHash_ApplyRevert() throws PlacementException
+    {
+        Location location = Location.at(0, 0, 0);
+        Piece piece = mock(Piece.class);
+        Tile tile = mock(Tile.class);
+        when(tile.getPiece()).thenReturn(Optional.of(piece));
+        when(tileSet.getTile(location)).thenReturn(tile);
+        when(tileSet.getOccupiedTiles()).thenReturn(new TreeSet<>());
+
+        Placement placement = new PlacementImpl(location, Orientations.x(), List.of(piece));
+        BoardImpl board = spy(board());
+        doReturn(Evaluation.of(1, 1)).when(board).evaluate(placement);
+
+        long empty = board.getHash();
+        Undo undo = board.apply(placement);
+
+        assertThat(board.getHash()).isEqualTo(empty ^ Zobrist.tile(location, piece));
+
+        board.revert(undo);
+
+        assertThat(board.getHash()).isEqualTo(empty);
+    }
+
+    @Test
+    public void apply_Invalid()
+    {
+        Placement placement = new PlacementImpl(Location.at(0, 0, 0), Orientations.x(), List.of(mock(Piece.class)));
+        BoardImpl board = spy(board());
+        doReturn(Evaluation.INVALID).when(board).evaluate(placement);
+
+        assertThrows(PlacementException.class, () -> board.apply(placement));
+    }
+
+    @Test
+    public void revert_OutOfOrder() throws PlacementException
+    {
+        when(tileSet.getTile(any())).thenReturn(mock(Tile.class));
+
+        Placement placement1 = new PlacementImpl(Location.at(0, 0, 0), Orientations.x(), List.of(mock(Piece.class)));
+        Placement placement2 = new PlacementImpl(Location.at(1, 0, 0), Orientations.x(), List.of(mock(Piece.class)));
+        BoardImpl board = spy(board());
+        doReturn(Evaluation.of(1, 1)).when(board).evaluate(any());
+
+        Undo undo1 = board.apply(placement1);
+        Undo undo2 = board.apply(placement2);
+
+        assertThrows(IllegalStateException.class, () -> board.revert(undo1));
+        assertThrows(IllegalStateException.class, () -> board().revert(undo2));
+
+        board.revert(undo2);
+        board.revert(undo1);
+    }
+
     private BoardImpl board()
     {
         return board(Dimension.of(3, 3, 3), Orientations.xyz(), Location.at(0, 0, 0));
@@ -651,4 +745,78 @@ public class BoardImplTest implements WithAssertions
     {
         return new BoardImpl(dimension, orientations, start, tileSetFactory, wordFactory, dictionary, scoreCalc);
     }
+
+    /*
+     * A six by six board with a letter multiplier where an S extends CAT and a
+     * word multiplier where a T crosses above it.
+     */
+    private BoardImpl attributedBoard(Dictionary dictionary)
+    {
+        Dimension dimension = Dimension.of(6, 6);
+        TileFactory tileFactory = location -> {
+            TileImpl tile = new TileImpl(location);
+            if (location.equals(Location.at(4, 2))) {
+                tile.addAttribute(TileAttributes.letterMultiplier(2));
+            } else if (location.equals(Location.at(2, 1))) {
+                tile.addAttribute(TileAttributes.wordMultiplier(3));
+            }
+
+            return tile;
+        };
+
+        return new BoardImpl(dimension,
+                             Orientations.xy(),
+                             Location.at(2, 2),
+                             () -> new ArrayTileSet(dimension, tileFactory),
+                             new WordFactoryImpl(),
+                             dictionary,
+                             new ScoreCalculatorImpl(7, 50));
+    }
+
+    /*
+     * Placements against CAT across (1, 2) that are valid, invalid by their
+     * words, not anchored, on an occupied tile or off the board.
+     */
+    private List<Placement> placements()
+    {
+        return List.of(placement(Location.at(4, 2), Orientations.x(), "S"),
+                       placement(Location.at(0, 2), Orientations.x(), "S"),
+                       placement(Location.at(2, 3), Orientations.y(), "T"),
+                       placement(Location.at(3, 1), Orientations.y(), "A"),
+                       placement(Location.at(2, 1), Orientations.x(), "TA"),
+                       placement(Location.at(2, 3), Orientations.y(), "A"),
+                       placement(Location.at(4, 2), Orientations.x(), "T"),
+                       placement(Location.at(5, 5), Orientations.x(), "S"),
+                       placement(Location.at(1, 2), Orientations.x(), "S"),
+                       placement(Location.at(4, 4), Orientations.x(), "CATS"));
+    }
+
+    private void assertEvaluation(Board board, Placement placement)
+    {
+        long evaluation = board.evaluate(placement);
+        boolean valid = board.isValid(placement);
+
+        assertThat(Evaluation.isValid(evaluation)).as("%s", placement).isEqualTo(valid);
+        if (valid) {
+            assertThat(Evaluation.getPoints(evaluation)).as("%s", placement)
+                                                        .isEqualTo(board.calculatePoints(placement));
+        }
+    }
+
+    private Placement placement(Location start, Orientation orientation, String letters)
+    {
+        List<Piece> pieces = new ArrayList<>();
+        for (char character : letters.toCharArray()) {
+            Letter letter = mock(Letter.class);
+            lenient().when(letter.getCharacter()).thenReturn(character);
+            lenient().when(letter.toString()).thenReturn(String.valueOf(character));
+
+            Piece piece = mock(Piece.class);
+            lenient().when(piece.getLetter()).thenReturn(Optional.of(letter));
+            lenient().when(piece.getValue()).thenReturn(character == 'A' ? 1 : 2);
+            pieces.add(piece);
+        }
+
+        return new PlacementImpl(start, orientation, pieces);
+    }
 }
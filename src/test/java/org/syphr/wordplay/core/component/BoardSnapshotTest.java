@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.lang.DawgDictionary;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class BoardSnapshotTest implements WithAssertions
+{
+    private static final DawgDictionary DICTIONARY = DawgDictionary.of(List.of("AT", "CAT", "CATS", "SCAT", "TA"));
+    private static final Dimension DIMENSION = Dimension.of(6, 6);
+
+    private final Board board = new BoardImpl(DIMENSION,
+                                              Orientations.xy(),
+                                              Location.at(2, 2),
+                                              () -> new ArrayTileSet(DIMENSION, TileImpl::new),
+                                              new WordFactoryImpl(),
+                                              DICTIONARY,
+                                              new ScoreCalculatorImpl(7, 50));
+
+    @Test
+    public void unaffectedByLaterPlacements() throws PlacementException
+    {
+        board.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+        Board snapshot = board.snapshot();
+
+        board.place(placement(Location.at(4, 2), Orientations.x(), "S"));
+
+        assertThat(snapshot.getTiles().hasPiece(Location.at(4, 2))).isFalse();
+        assertThat(snapshot.getTiles().getOccupiedTiles()).hasSize(3);
+        assertThat(snapshot.getOccupancy().getCount()).isEqualTo(3);
+        assertThat(snapshot.getOccupancy().isAnchor(Location.at(4, 2))).isTrue();
+        assertThat(snapshot.getCrossChecks().isAllowed(Location.at(4, 2), Orientations.x(), 'S')).isTrue();
+
+        assertThat(board.getOccupancy().getCount()).isEqualTo(4);
+        assertThat(board.getCrossChecks().getMask(Location.at(4, 2), Orientations.x())).isZero();
+    }
+
+    @Test
+    public void copiesComputedCaches() throws PlacementException
+    {
+        board.getCrossChecks();
+        board.getOccupancy();
+        long emptyHash = board.getHash();
+
+        board.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+        Board snapshot = board.snapshot();
+        long hash = board.getHash();
+
+        board.place(placement(Location.at(4, 2), Orientations.x(), "S"));
+
+        assertThat(snapshot.getOccupancy().getCount()).isEqualTo(3);
+        assertThat(snapshot.getCrossChecks().isAllowed(Location.at(4, 2), Orientations.x(), 'S')).isTrue();
+        assertThat(snapshot.getHash()).isEqualTo(hash).isNotEqualTo(emptyHash).isNotEqualTo(board.getHash());
+    }
+
+    @Test
+    public void sharesAttributes() throws PlacementException
+    {
+        Location multiplier = Location.at(3, 2);
+        Board attributed = new BoardImpl(DIMENSION,
+                                         Orientations.xy(),
+                                         Location.at(2, 2),
+                                         () -> new ArrayTileSet(DIMENSION, location -> {
+                                             TileImpl tile = new TileImpl(location);
+                                             if (location.equals(multiplier)) {
+                                                 tile.addAttribute(TileAttributes.letterMultiplier(2));
+                                             }
+                                             return tile;
+                                         }),
+                                         new WordFactoryImpl(),
+                                         DICTIONARY,
+                                         new ScoreCalculatorImpl(7, 50));
+        Board first = attributed.snapshot();
+        attributed.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+        Board second = attributed.snapshot();
+
+        Tile before = first.getTiles().getTile(multiplier);
+        Tile after = second.getTiles().getTile(multiplier);
+
+        assertThat(before.hasPiece()).isFalse();
+        assertThat(after.hasPiece()).isTrue();
+        assertThat(before.getAttributes()).containsExactly(TileAttributes.letterMultiplier(2))
+                                          .isSameAs(after.getAttributes());
+        assertThat(second.getTiles().getTile(multiplier)).isSameAs(after);
+
+        Placement extension = placement(Location.at(4, 2), Orientations.x(), "S");
+        assertThat(second.calculatePoints(extension)).isEqualTo(attributed.calculatePoints(extension));
+    }
+
+    @Test
+    public void largeAlphabet() throws PlacementException
+    {
+        /*
+         * Cross checks cannot be built for more than 64 distinct characters, so a
+         * snapshot must not build them unless they are asked for.
+         */
+        List<String> words = new ArrayList<>(List.of("AT", "CAT", "CATS", "SCAT", "TA"));
+        for (char character = '\u0100'; character < '\u0100' + 70; character++) {
+            words.add("A" + character);
+        }
+        Board large = new BoardImpl(DIMENSION,
+                                    Orientations.xy(),
+                                    Location.at(2, 2),
+                                    () -> new ArrayTileSet(DIMENSION, TileImpl::new),
+                                    new WordFactoryImpl(),
+                                    DawgDictionary.of(words),
+                                    new ScoreCalculatorImpl(7, 50));
+        large.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+
+        Board snapshot = large.snapshot();
+        Placement placement = placement(Location.at(4, 2), Orientations.x(), "S");
+
+        assertThat(snapshot.evaluate(placement)).isEqualTo(large.evaluate(placement));
+        assertThat(Evaluation.isValid(snapshot.evaluate(placement))).isTrue();
+        assertThat(snapshot.getOccupancy().getCount()).isEqualTo(3);
+        assertThatIllegalArgumentException().isThrownBy(snapshot::getCrossChecks);
+    }
+
+    @Test
+    public void evaluate_MatchesBoard() throws PlacementException
+    {
+        board.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+        Board snapshot = board.snapshot();
+
+        for (Placement placement : List.of(placement(Location.at(4, 2), Orientations.x(), "S"),
+                                           placement(Location.at(0, 2), Orientations.x(), "S"),
+                                           placement(Location.at(2, 3), Orientations.y(), "T"),
+                                           placement(Location.at(2, 3), Orientations.y(), "A"))) {
+            assertThat(snapshot.evaluate(placement)).as("%s", placement).isEqualTo(board.evaluate(placement));
+        }
+    }
+
+    @Test
+    public void place_Rejected()
+    {
+        Board snapshot = board.snapshot();
+
+        Placement placement = placement(Location.at(1, 2), Orientations.x(), "CAT");
+
+        assertThatThrownBy(() -> snapshot.place(placement)).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(snapshot.getOccupancy().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void tiles_Immutable()
+    {
+        Board snapshot = board.snapshot();
+        Tile tile = snapshot.getTiles().getTile(Location.at(2, 2));
+
+        assertThatThrownBy(() -> tile.setPiece(piece('A'))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getTiles().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void snapshot_OfSnapshot()
+    {
+        Board snapshot = board.snapshot();
+
+        assertThat(snapshot.snapshot()).isSameAs(snapshot);
+    }
+
+    private Placement placement(Location start, Orientation orientation, String letters)
+    {
+        List<Piece> pieces = new ArrayList<>();
+        for (char character : letters.toCharArray()) {
+            pieces.add(piece(character));
+        }
+
+        return new PlacementImpl(start, orientation, pieces);
+    }
+
+    private Piece piece(char character)
+    {
+        Letter letter = mock(Letter.class);
+        when(letter.getCharacter()).thenReturn(character);
+        when(letter.toString()).thenReturn(String.valueOf(character));
+
+        Piece piece = mock(Piece.class);
+        when(piece.getLetter()).thenReturn(Optional.of(letter));
+        when(piece.getValue()).thenReturn(character == 'A' ? 1 : 2);
+
+        return piece;
+    }
+}
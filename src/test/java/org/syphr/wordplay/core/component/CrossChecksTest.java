@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.lang.Alphabet;
+import org.syphr.wordplay.core.lang.DawgDictionary;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class CrossChecksTest implements WithAssertions
+{
+    private static final DawgDictionary DICTIONARY = DawgDictionary.of(List.of("AT", "CAT", "CATS", "SCAT", "TA"));
+    private static final Alphabet ALPHABET = Alphabet.of(DICTIONARY);
+    private static final Dimension DIMENSION = Dimension.of(6, 6);
+
+    private final TileSet tiles = new TileSetImpl(TileImpl::new);
+
+    @Test
+    public void emptyBoard()
+    {
+        CrossChecks crossChecks = crossChecks();
+
+        assertThat(crossChecks.getMask(Location.at(2, 2), Orientations.x())).isEqualTo(ALPHABET.getFullMask());
+        assertThat(crossChecks.hasCrossWord(Location.at(2, 2), Orientations.x())).isFalse();
+        assertThat(crossChecks.getScore(Location.at(2, 2), Orientations.x())).isZero();
+    }
+
+    @Test
+    public void offBoard()
+    {
+        CrossChecks crossChecks = crossChecks();
+
+        assertThat(crossChecks.getMask(Location.at(6, 0), Orientations.x())).isZero();
+        assertThat(crossChecks.getMask(Location.at(-1, 0), Orientations.y())).isZero();
+    }
+
+    @Test
+    public void existingWord()
+    {
+        place(Location.at(1, 2), Orientations.x(), "CAT");
+
+        CrossChecks crossChecks = crossChecks();
+
+        Location before = Location.at(0, 2);
+        assertThat(crossChecks.getMask(before, Orientations.x())).isEqualTo(ALPHABET.getMask('S'));
+        assertThat(crossChecks.getScore(before, Orientations.x())).isEqualTo(5);
+        assertThat(crossChecks.isAllowed(before, Orientations.x(), 'S')).isTrue();
+        assertThat(crossChecks.isAllowed(before, Orientations.x(), 'A')).isFalse();
+
+        Location after = Location.at(4, 2);
+        assertThat(crossChecks.getMask(after, Orientations.x())).isEqualTo(ALPHABET.getMask('S'));
+        assertThat(crossChecks.hasCrossWord(after, Orientations.x())).isTrue();
+
+        Location below = Location.at(2, 3);
+        assertThat(crossChecks.getMask(below, Orientations.y())).isEqualTo(ALPHABET.getMask('T'));
+        assertThat(crossChecks.getScore(below, Orientations.y())).isEqualTo(1);
+        assertThat(crossChecks.getMask(below, Orientations.x())).isEqualTo(ALPHABET.getFullMask());
+
+        assertThat(crossChecks.getMask(Location.at(2, 2), Orientations.x())).isZero();
+        assertThat(crossChecks.hasCrossWord(Location.at(2, 2), Orientations.x())).isFalse();
+    }
+
+    @Test
+    public void between()
+    {
+        place(Location.at(0, 0), Orientations.x(), "A");
+        place(Location.at(2, 0), Orientations.x(), "S");
+
+        CrossChecks crossChecks = crossChecks();
+
+        assertThat(crossChecks.getMask(Location.at(1, 0), Orientations.x())).isZero();
+        assertThat(crossChecks.hasCrossWord(Location.at(1, 0), Orientations.x())).isTrue();
+    }
+
+    @Test
+    public void update()
+    {
+        CrossChecks crossChecks = crossChecks();
+
+        List<Location> locations = place(Location.at(1, 2), Orientations.x(), "CAT");
+        crossChecks.update(locations);
+        locations = place(Location.at(3, 1), Orientations.y(), "A");
+        crossChecks.update(locations);
+
+        CrossChecks recomputed = crossChecks();
+        for (int x = 0; x < DIMENSION.width(); x++) {
+            for (int y = 0; y < DIMENSION.height(); y++) {
+                for (Orientation orientation : Orientations.xy()) {
+                    Location location = Location.at(x, y);
+                    assertThat(crossChecks.getMask(location, orientation)).as("%s %s", location, orientation)
+                                                                           .isEqualTo(recomputed.getMask(location,
+                                                                                                         orientation));
+                    assertThat(crossChecks.getScore(location, orientation)).as("%s %s", location, orientation)
+                                                                            .isEqualTo(recomputed.getScore(location,
+                                                                                                           orientation));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void update_Removal()
+    {
+        CrossChecks crossChecks = crossChecks();
+        CrossChecks empty = crossChecks();
+
+        List<Location> locations = place(Location.at(1, 2), Orientations.x(), "CAT");
+        crossChecks.update(locations);
+
+        for (Location location : locations) {
+            tiles.getTile(location).setPiece(null);
+        }
+        crossChecks.update(locations);
+
+        for (int x = 0; x < DIMENSION.width(); x++) {
+            for (int y = 0; y < DIMENSION.height(); y++) {
+                for (Orientation orientation : Orientations.xy()) {
+                    Location location = Location.at(x, y);
+                    assertThat(crossChecks.getMask(location, orientation)).as("%s %s", location, orientation)
+                                                                           .isEqualTo(empty.getMask(location,
+                                                                                                    orientation));
+                }
+            }
+        }
+    }
+
+    private CrossChecks crossChecks()
+    {
+        return new CrossChecks(DIMENSION, Orientations.xy(), tiles, DICTIONARY, ALPHABET);
+    }
+
+    private List<Location> place(Location start, Orientation orientation, String letters)
+    {
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < letters.length(); i++) {
+            Location location = orientation.move(start, i);
+            tiles.getTile(location).setPiece(piece(letters.charAt(i)));
+            locations.add(location);
+        }
+
+        return locations;
+    }
+
+    private Piece piece(char character)
+    {
+        Letter letter = mock(Letter.class);
+        when(letter.getCharacter()).thenReturn(character);
+
+        Piece piece = mock(Piece.class);
+        when(piece.getLetter()).thenReturn(Optional.of(letter));
+        when(piece.getValue()).thenReturn(character == 'A' ? 1 : 2);
+
+        return piece;
+    }
+}
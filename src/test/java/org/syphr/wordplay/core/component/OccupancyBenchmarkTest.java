@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+/**
+ * Compares listing the anchors of a board from its {@link Occupancy} bits
+ * against walking its tiles one at a time, on a 15x15 board and a 15x15x15
+ * board with one tile in eight occupied. The time to rebuild the occupancy from
+ * the tiles before listing is reported as well. It is tagged as a benchmark, so
+ * it is not part of the default build; run it with the <code>benchmark</code>
+ * profile:
+ *
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=OccupancyBenchmarkTest
+ * </pre>
+ *
+ * All must find the same anchors, and listing them from an occupancy that is
+ * already built must be at least <code>benchmark.minSpeedup</code> (default
+ * 1.5) times faster than the walk.
+ *
+ * @author Gregory P. Moyer
+ */
+@Tag("benchmark")
+public class OccupancyBenchmarkTest implements WithAssertions
+{
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.minSpeedup", "1.5"));
+
+    private static final int REPETITIONS = 200;
+    private static final int ROUNDS = 15;
+
+    @Test
+    public void getAnchors_FasterThanTileWalk_2D()
+    {
+        assertFasterThanTileWalk(Dimension.of(15, 15), Orientations.xy());
+    }
+
+    @Test
+    public void getAnchors_FasterThanTileWalk_3D()
+    {
+        assertFasterThanTileWalk(Dimension.of(15, 15, 15), Orientations.xyz());
+    }
+
+    private void assertFasterThanTileWalk(Dimension dimension, Set<Orientation> orientations)
+    {
+        Random random = new Random(17);
+        Piece piece = mock(Piece.class);
+        TileSet tiles = new ArrayTileSet(dimension, TileImpl::new);
+        for (int i = 0; i < dimension.width() * dimension.height() * dimension.depth() / 8; i++) {
+            tiles.getTile(Location.at(random.nextInt(dimension.width()),
+                                      random.nextInt(dimension.height()),
+                                      random.nextInt(dimension.depth())))
+                 .setPiece(piece);
+        }
+
+        Occupancy occupancy = new Occupancy(dimension, orientations, tiles);
+        Supplier<List<Location>> bits = occupancy::getAnchors;
+        Supplier<List<Location>> rebuilt = () -> new Occupancy(dimension, orientations, tiles).getAnchors();
+        Supplier<List<Location>> walk = () -> walkAnchors(dimension, orientations, tiles);
+        assertThat(bits.get()).isNotEmpty().isEqualTo(walk.get()).isEqualTo(rebuilt.get());
+
+        long bitsNanos = time(bits);
+        long rebuiltNanos = time(rebuilt);
+        long walkNanos = time(walk);
+        double speedup = (double) walkNanos / bitsNanos;
+
+        System.out.printf("%s anchors from occupancy: %,d ns; rebuilt occupancy: %,d ns; tile walk: %,d ns%n",
+                          dimension,
+                          bitsNanos,
+                          rebuiltNanos,
+                          walkNanos);
+        System.out.printf("Speedup: %.1fx; with the occupancy rebuilt: %.1fx%n",
+                          speedup,
+                          (double) walkNanos / rebuiltNanos);
+
+        assertThat(speedup).as("occupancy speedup on %s", dimension).isGreaterThanOrEqualTo(MIN_SPEEDUP);
+    }
+
+    /*
+     * The tile walk that the occupancy bits replaced.
+     */
+    private static List<Location> walkAnchors(Dimension dimension, Set<Orientation> orientations, TileSet tiles)
+    {
+        List<Location> anchors = new ArrayList<>();
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    Location location = Location.at(x, y, z);
+                    if (!tiles.hasPiece(location) && hasAdjacentPiece(tiles, orientations, location)) {
+                        anchors.add(location);
+                    }
+                }
+            }
+        }
+
+        return anchors;
+    }
+
+    private static boolean hasAdjacentPiece(TileSet tiles, Set<Orientation> orientations, Location location)
+    {
+        for (Orientation orientation : orientations) {
+            if (tiles.hasPiece(orientation.move(location, 1)) || tiles.hasPiece(orientation.move(location, -1))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /*
+     * The median time of one computation, after as many rounds again to warm up.
+     */
+    private long time(Supplier<List<Location>> anchors)
+    {
+        long[] nanos = new long[ROUNDS];
+        for (int round = -ROUNDS; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int count = 0;
+            for (int i = 0; i < REPETITIONS; i++) {
+                count += anchors.get().size();
+            }
+            if (round >= 0) {
+                nanos[round] = (System.nanoTime() - start) / REPETITIONS;
+            }
+            assertThat(count).isPositive();
+        }
+
+        Arrays.sort(nanos);
+        return nanos[ROUNDS / 2];
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class OccupancyTest implements WithAssertions
+{
+    @Test
+    public void emptyBoard()
+    {
+        Dimension dimension = Dimension.of(5, 5);
+        Occupancy occupancy = new Occupancy(dimension, Orientations.xy(), new ArrayTileSet(dimension, TileImpl::new));
+
+        assertThat(occupancy.isEmpty()).isTrue();
+        assertThat(occupancy.getAnchors()).isEmpty();
+        assertThat(occupancy.hasAdjacent(Location.at(2, 2))).isFalse();
+    }
+
+    @Test
+    public void singlePiece()
+    {
+        Dimension dimension = Dimension.of(5, 5);
+        TileSet tiles = new ArrayTileSet(dimension, TileImpl::new);
+        tiles.getTile(Location.at(0, 2)).setPiece(mock(Piece.class));
+
+        Occupancy occupancy = new Occupancy(dimension, Orientations.xy(), tiles);
+
+        assertThat(occupancy.getCount()).isEqualTo(1);
+        assertThat(occupancy.isOccupied(Location.at(0, 2))).isTrue();
+        assertThat(occupancy.getAnchors()).containsExactly(Location.at(0, 1), Location.at(1, 2), Location.at(0, 3));
+        assertThat(occupancy.isAnchor(Location.at(0, 2))).isFalse();
+        assertThat(occupancy.hasAdjacent(Location.at(-1, 2))).isTrue();
+        assertThat(occupancy.hasAdjacent(Location.at(-1, 3))).isFalse();
+    }
+
+    @Test
+    public void update()
+    {
+        Dimension dimension = Dimension.of(5, 5);
+        TileSet tiles = new ArrayTileSet(dimension, TileImpl::new);
+        Occupancy occupancy = new Occupancy(dimension, Orientations.xy(), tiles);
+
+        Location location = Location.at(4, 4);
+        tiles.getTile(location).setPiece(mock(Piece.class));
+        occupancy.update(List.of(location));
+
+        assertThat(occupancy.getAnchors()).containsExactly(Location.at(4, 3), Location.at(3, 4));
+
+        tiles.getTile(location).setPiece(null);
+        occupancy.update(List.of(location));
+
+        assertThat(occupancy.isEmpty()).isTrue();
+        assertThat(occupancy.getAnchors()).isEmpty();
+    }
+
+    @Test
+    public void update_MatchesRecomputed_3D()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        TileSet tiles = new ArrayTileSet(dimension, TileImpl::new);
+        Occupancy occupancy = new Occupancy(dimension, Orientations.xyz(), tiles);
+
+        Random random = new Random(19);
+        List<Location> placed = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Location location = Location.at(random.nextInt(dimension.width()),
+                                            random.nextInt(dimension.height()),
+                                            random.nextInt(dimension.depth()));
+            tiles.getTile(location).setPiece(mock(Piece.class));
+            occupancy.update(List.of(location));
+            placed.add(location);
+
+            assertThat(occupancy.getAnchors()).isEqualTo(new Occupancy(dimension, Orientations.xyz(), tiles).getAnchors());
+        }
+
+        for (Location location : placed) {
+            tiles.getTile(location).setPiece(null);
+            occupancy.update(List.of(location));
+
+            assertThat(occupancy.getAnchors()).isEqualTo(new Occupancy(dimension, Orientations.xyz(), tiles).getAnchors());
+        }
+
+        assertThat(occupancy.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void anchors_MatchTileWalk_WideBoard()
+    {
+        assertAnchorsMatchTileWalk(Dimension.of(130, 3), Orientations.xy());
+    }
+
+    @Test
+    public void anchors_MatchTileWalk_3D()
+    {
+        assertAnchorsMatchTileWalk(Dimension.of(7, 6, 5), Orientations.xyz());
+    }
+
+    @Test
+    public void anchors_MatchTileWalk_OneOrientation()
+    {
+        assertAnchorsMatchTileWalk(Dimension.of(15, 15), Set.of(Orientations.y()));
+    }
+
+    private void assertAnchorsMatchTileWalk(Dimension dimension, Set<Orientation> orientations)
+    {
+        Random random = new Random(17);
+        TileSet tiles = new ArrayTileSet(dimension, TileImpl::new);
+        for (int i = 0; i < dimension.width() * dimension.height() * dimension.depth() / 8; i++) {
+            tiles.getTile(Location.at(random.nextInt(dimension.width()),
+                                      random.nextInt(dimension.height()),
+                                      random.nextInt(dimension.depth())))
+                 .setPiece(mock(Piece.class));
+        }
+
+        Occupancy occupancy = new Occupancy(dimension, orientations, tiles);
+
+        List<Location> expected = new ArrayList<>();
+        for (int z = 0; z < dimension.depth(); z++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (int x = 0; x < dimension.width(); x++) {
+                    Location location = Location.at(x, y, z);
+                    if (!tiles.hasPiece(location) && hasAdjacentPiece(tiles, orientations, location)) {
+                        expected.add(location);
+                    }
+                }
+            }
+        }
+
+        assertThat(expected).isNotEmpty();
+        assertThat(occupancy.getAnchors()).isEqualTo(expected);
+    }
+
+    private boolean hasAdjacentPiece(TileSet tiles, Set<Orientation> orientations, Location location)
+    {
+        for (Orientation orientation : orientations) {
+            if (tiles.hasPiece(orientation.move(location, 1)) || tiles.hasPiece(orientation.move(location, -1))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
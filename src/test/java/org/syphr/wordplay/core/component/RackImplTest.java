@@ -23,11 +23,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.mockito.ArgumentCaptor;
+import org.syphr.wordplay.core.lang.Letter;
 
 public class RackImplTest implements WithAssertions
 {
@@ -161,6 +163,34 @@ public class RackImplTest implements WithAssertions
                   () -> assertThat(rack.getPieces()).isEmpty());
     }
 
+    @Test
+    public void getHash_IgnoresOrder()
+    {
+        Piece piece1 = piece('A');
+        Piece piece2 = piece('B');
+
+        RackImpl rack1 = rack(2);
+        rack1.add(List.of(piece1, piece2));
+
+        RackImpl rack2 = rack(2);
+        rack2.add(List.of(piece2, piece1));
+
+        assertThat(rack1.getHash()).isEqualTo(rack2.getHash())
+                                   .isEqualTo(Zobrist.pool(piece1) + Zobrist.pool(piece2))
+                                   .isNotEqualTo(rack(2).getHash());
+    }
+
+    private Piece piece(char character)
+    {
+        Letter letter = mock(Letter.class);
+        when(letter.getCharacter()).thenReturn(character);
+
+        Piece piece = mock(Piece.class);
+        when(piece.getLetter()).thenReturn(Optional.of(letter));
+
+        return piece;
+    }
+
     private RackImpl rack(int size)
     {
         return new RackImpl(size);
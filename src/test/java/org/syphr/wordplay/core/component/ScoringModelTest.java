@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.lang.DawgDictionary;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Distance;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class ScoringModelTest implements WithAssertions
+{
+    private static final Location LETTER = Location.at(0, 0);
+    private static final Location WORD = Location.at(1, 0);
+    private static final Location BOTH = Location.at(2, 0);
+    private static final Location CUSTOM = Location.at(0, 1);
+    private static final Location FRACTION = Location.at(1, 1);
+    private static final Location EMPTY = Location.at(2, 2);
+
+    private final Configuration configuration = mock(Configuration.class);
+
+    @BeforeEach
+    public void setup()
+    {
+        when(configuration.getBoardDimension()).thenReturn(Dimension.of(3, 3));
+        when(configuration.getTileAttributes(LETTER)).thenReturn(Set.of(TileAttributes.letterMultiplier(2)));
+        when(configuration.getTileAttributes(WORD)).thenReturn(Set.of(TileAttributes.wordMultiplier(3)));
+        when(configuration.getTileAttributes(BOTH)).thenReturn(Set.of(TileAttributes.letterMultiplier(3),
+                                                                      TileAttributes.wordMultiplier(2)));
+        when(configuration.getTileAttributes(CUSTOM)).thenReturn(Set.of(mock(TileAttribute.class)));
+        when(configuration.getTileAttributes(FRACTION)).thenReturn(Set.of(new MultiplierAttribute(Distance.zero(),
+                                                                                                  1.5,
+                                                                                                  true,
+                                                                                                  true)));
+    }
+
+    @Test
+    public void multipliers()
+    {
+        ScoringModel model = ScoringModel.of(configuration);
+
+        assertThat(model.getLetterMultiplier(LETTER)).isEqualTo(2);
+        assertThat(model.getWordMultiplier(LETTER)).isEqualTo(1);
+        assertThat(model.getLetterMultiplier(WORD)).isEqualTo(1);
+        assertThat(model.getWordMultiplier(WORD)).isEqualTo(3);
+        assertThat(model.getLetterMultiplier(BOTH)).isEqualTo(3);
+        assertThat(model.getWordMultiplier(BOTH)).isEqualTo(2);
+        assertThat(model.getLetterMultiplier(EMPTY)).isEqualTo(1);
+        assertThat(model.getWordMultiplier(EMPTY)).isEqualTo(1);
+    }
+
+    @Test
+    public void isCompiled()
+    {
+        ScoringModel model = ScoringModel.of(configuration);
+
+        assertThat(model.isCompiled(LETTER, Set.of(TileAttributes.letterMultiplier(2)))).isTrue();
+        assertThat(model.isCompiled(BOTH, List.copyOf(configuration.getTileAttributes(BOTH)))).isTrue();
+        assertThat(model.isCompiled(EMPTY, Set.of())).isTrue();
+    }
+
+    @Test
+    public void isCompiled_NotCompilable()
+    {
+        ScoringModel model = ScoringModel.of(configuration);
+
+        assertThat(model.isCompiled(CUSTOM, configuration.getTileAttributes(CUSTOM))).isFalse();
+        assertThat(model.isCompiled(FRACTION, configuration.getTileAttributes(FRACTION))).isFalse();
+        assertThat(model.isCompiled(Location.at(3, 0), Set.of())).isFalse();
+    }
+
+    @Test
+    public void isCompiled_AttributesChanged()
+    {
+        ScoringModel model = ScoringModel.of(configuration);
+
+        assertThat(model.isCompiled(LETTER, Set.of())).isFalse();
+        assertThat(model.isCompiled(EMPTY, Set.of(TileAttributes.wordMultiplier(2)))).isFalse();
+    }
+
+    @Test
+    public void of_Tiles()
+    {
+        Dimension dimension = configuration.getBoardDimension();
+        ScoringModel expected = ScoringModel.of(configuration);
+        ScoringModel model = ScoringModel.of(dimension, new TileSetFactoryImpl(configuration).createTileSet());
+
+        for (int y = 0; y < dimension.height(); y++) {
+            for (int x = 0; x < dimension.width(); x++) {
+                Location location = Location.at(x, y);
+                Set<TileAttribute> attributes = configuration.getTileAttributes(location);
+
+                assertThat(model.isCompiled(location, attributes)).as("%s", location)
+                                                                  .isEqualTo(expected.isCompiled(location, attributes));
+                if (expected.isCompiled(location, attributes)) {
+                    assertThat(model.getLetterMultiplier(location)).isEqualTo(expected.getLetterMultiplier(location));
+                    assertThat(model.getWordMultiplier(location)).isEqualTo(expected.getWordMultiplier(location));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void scoreCalculator_MatchesAttributes() throws PlacementException
+    {
+        Map<Location, Set<TileAttribute>> attributes = Map.of(Location.at(4, 2),
+                                                              Set.of(TileAttributes.letterMultiplier(2)),
+                                                              Location.at(2, 1),
+                                                              Set.of(TileAttributes.wordMultiplier(3)),
+                                                              Location.at(0, 2),
+                                                              Set.of(TileAttributes.letterMultiplier(3),
+                                                                     TileAttributes.wordMultiplier(2)));
+        Configuration configuration = mock(Configuration.class);
+        when(configuration.getBoardDimension()).thenReturn(Dimension.of(6, 6));
+        when(configuration.getTileAttributes(any())).thenAnswer(invocation -> attributes.getOrDefault(invocation.getArgument(0),
+                                                                                                      Set.of()));
+        when(configuration.getRackSize()).thenReturn(7);
+        when(configuration.getRackBonus()).thenReturn(50);
+
+        DawgDictionary dictionary = DawgDictionary.of(List.of("AT", "CAT", "CATS", "SCAT", "TA"));
+        Board attributed = board(configuration, dictionary, new ScoreCalculatorImpl(7, 50));
+        Board compiled = board(configuration, dictionary, new ScoreCalculatorImpl(configuration));
+        for (Board b : List.of(attributed, compiled)) {
+            b.place(placement(Location.at(1, 2), Orientations.x(), "CAT"));
+        }
+
+        for (Placement placement : List.of(placement(Location.at(4, 2), Orientations.x(), "S"),
+                                           placement(Location.at(0, 2), Orientations.x(), "S"),
+                                           placement(Location.at(2, 1), Orientations.x(), "TA"),
+                                           placement(Location.at(2, 3), Orientations.y(), "T"),
+                                           placement(Location.at(2, 3), Orientations.y(), "A"))) {
+            assertThat(compiled.evaluate(placement)).as("%s", placement).isEqualTo(attributed.evaluate(placement));
+            if (attributed.isValid(placement)) {
+                /*
+                 * Without a model, the calculator applies the attributes one at a
+                 * time, so it is the reference for both compiled paths.
+                 */
+                int expected = attributed.calculatePoints(placement);
+                assertThat(compiled.calculatePoints(placement)).as("%s", placement).isEqualTo(expected);
+                assertThat(Evaluation.getPoints(compiled.evaluate(placement))).as("%s", placement).isEqualTo(expected);
+            }
+        }
+    }
+
+    private Board board(Configuration configuration, DawgDictionary dictionary, ScoreCalculator scoreCalculator)
+    {
+        return new BoardImpl(configuration.getBoardDimension(),
+                             Orientations.xy(),
+                             Location.at(2, 2),
+                             new TileSetFactoryImpl(configuration),
+                             new WordFactoryImpl(),
+                             dictionary,
+                             scoreCalculator);
+    }
+
+    private Placement placement(Location start, Orientation orientation, String letters)
+    {
+        List<Piece> pieces = new ArrayList<>();
+        for (char character : letters.toCharArray()) {
+            Letter letter = mock(Letter.class);
+            when(letter.getCharacter()).thenReturn(character);
+            when(letter.toString()).thenReturn(String.valueOf(character));
+
+            Piece piece = mock(Piece.class);
+            when(piece.getLetter()).thenReturn(Optional.of(letter));
+            when(piece.getValue()).thenReturn(character == 'A' ? 1 : 2);
+            pieces.add(piece);
+        }
+
+        return new PlacementImpl(start, orientation, pieces);
+    }
+}
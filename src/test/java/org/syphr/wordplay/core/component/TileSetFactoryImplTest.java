@@ -18,9 +18,11 @@ package org.syphr.wordplay.core.component;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.space.Dimension;
 
 class TileSetFactoryImplTest
 {
@@ -46,4 +48,18 @@ class TileSetFactoryImplTest
         // then
         assertThat(result).isNotNull();
     }
+
+    @Test
+    void createTileSet_BoardDimension()
+    {
+        // given
+        var config = mock(Configuration.class);
+        when(config.getBoardDimension()).thenReturn(Dimension.of(3, 3));
+
+        // when
+        var result = new TileSetFactoryImpl(config).createTileSet();
+
+        // then
+        assertThat(result).isInstanceOf(ArrayTileSet.class);
+    }
 }
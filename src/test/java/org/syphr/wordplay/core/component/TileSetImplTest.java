@@ -30,6 +30,7 @@ import java.util.Set;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import org.syphr.wordplay.core.config.TileAttribute;
+import org.syphr.wordplay.core.space.Dimension;
 import org.syphr.wordplay.core.space.Location;
 
 class TileSetImplTest
@@ -120,6 +121,41 @@ class TileSetImplTest
                                            .containsExactlyEntriesOf(Map.of(location, result1)));
     }
 
+    @Test
+    void getTile_OffBoard()
+    {
+        // given
+        var tileFactory = mock(TileFactory.class);
+        var tileSet = new TileSetImpl(tileFactory, Dimension.of(3, 3));
+
+        // when
+        Tile result = tileSet.getTile(Location.at(-1, 0));
+
+        // then
+        assertAll(() -> assertThat(result).isSameAs(WallTile.INSTANCE),
+                  () -> assertThat(result.hasPiece()).isFalse(),
+                  () -> assertThat(tileSet).extracting("tiles")
+                                           .asInstanceOf(InstanceOfAssertFactories.map(Location.class, Tile.class))
+                                           .isEmpty());
+    }
+
+    @Test
+    void hasPiece_DoesNotCreateTile()
+    {
+        // given
+        var tileFactory = mock(TileFactory.class);
+        var tileSet = new TileSetImpl(tileFactory);
+
+        // when
+        boolean result = tileSet.hasPiece(Location.at(1, 2, 3));
+
+        // then
+        assertAll(() -> assertThat(result).isFalse(),
+                  () -> assertThat(tileSet).extracting("tiles")
+                                           .asInstanceOf(InstanceOfAssertFactories.map(Location.class, Tile.class))
+                                           .isEmpty());
+    }
+
     @Test
     void getOccupiedTiles_None()
     {
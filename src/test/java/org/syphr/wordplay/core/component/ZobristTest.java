@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.component;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.space.Location;
+
+public class ZobristTest implements WithAssertions
+{
+    @Test
+    public void tile_Distinct()
+    {
+        Set<Long> keys = new HashSet<>();
+        for (char c = 'A'; c <= 'Z'; c++) {
+            Piece piece = piece(c, false);
+            for (int x = 0; x < 15; x++) {
+                for (int y = 0; y < 15; y++) {
+                    keys.add(Zobrist.tile(Location.at(x, y), piece));
+                }
+            }
+        }
+
+        assertThat(keys).hasSize(26 * 15 * 15);
+    }
+
+    @Test
+    public void tile_WildDiffersFromNatural()
+    {
+        Location location = Location.at(3, 4);
+
+        assertThat(Zobrist.tile(location, piece('A', true))).isNotEqualTo(Zobrist.tile(location, piece('A', false)));
+    }
+
+    @Test
+    public void pool_WildIgnoresLetter()
+    {
+        assertThat(Zobrist.pool(piece('A', true))).isEqualTo(Zobrist.pool(piece('B', true)))
+                                                  .isEqualTo(Zobrist.pool((Letter) null))
+                                                  .isNotEqualTo(Zobrist.pool(piece('A', false)));
+    }
+
+    @Test
+    public void combine_RolesDiffer()
+    {
+        assertThat(Zobrist.combine(0L, 1L, 2L)).isNotEqualTo(Zobrist.combine(0L, 2L, 1L));
+    }
+
+    private Piece piece(char character, boolean wild)
+    {
+        Letter letter = mock(Letter.class);
+        when(letter.getCharacter()).thenReturn(character);
+
+        Piece piece = mock(Piece.class);
+        when(piece.getLetter()).thenReturn(Optional.of(letter));
+        when(piece.isWild()).thenReturn(wild);
+
+        return piece;
+    }
+}
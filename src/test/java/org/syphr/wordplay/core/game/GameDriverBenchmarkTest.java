@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.game;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.syphr.wordplay.core.component.AbstractPiece;
+import org.syphr.wordplay.core.component.BagImpl;
+import org.syphr.wordplay.core.component.BoardImpl;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.RackImpl;
+import org.syphr.wordplay.core.component.ScoreCalculatorImpl;
+import org.syphr.wordplay.core.component.TileSetFactoryImpl;
+import org.syphr.wordplay.core.component.WordFactoryImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.lang.DawgDictionary;
+import org.syphr.wordplay.core.lang.InvalidCharacterException;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.lang.LetterFactory;
+import org.syphr.wordplay.core.player.PlayerImpl;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+
+import com.google.common.collect.HashMultiset;
+
+/**
+ * Measures how many concurrent games fit in the heap when every game is parked
+ * waiting for a human player. It is tagged as a benchmark, so it is not part of
+ * the default build; run it with a fixed heap using the <code>benchmark</code>
+ * profile, for example:
+ *
+ * <pre>
+ * mvn test -Pbenchmark -DargLine=-Xmx512m -Dbenchmark.games=20000
+ * </pre>
+ *
+ * The number of games defaults to 10,000. Every game must park on its own
+ * virtual thread, and each parked game must cost no more heap than
+ * <code>benchmark.maxBytesPerGame</code> (default 64 KiB).
+ *
+ * @author Gregory P. Moyer
+ */
+@Tag("benchmark")
+public class GameDriverBenchmarkTest implements WithAssertions
+{
+    private static final int GAME_COUNT = Integer.getInteger("benchmark.games", 10_000);
+    private static final long MAX_BYTES_PER_GAME = Long.getLong("benchmark.maxBytesPerGame", 64 * 1024);
+
+    private static final LetterFactory LETTERS = new BenchmarkLetterFactory("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+    private static final Configuration CONFIGURATION = Configuration.builder()
+                                                                    .boardDimension(Dimension.of(15, 15))
+                                                                    .boardStart(Location.at(7, 7))
+                                                                    .rackSize(7)
+                                                                    .rackBonus(50)
+                                                                    .letterFactory(LETTERS)
+                                                                    .allLetterCount(4)
+                                                                    .allLetterValue(1)
+                                                                    .dictionary(DawgDictionary.of(List.of("AT",
+                                                                                                          "CAT",
+                                                                                                          "TA")))
+                                                                    .build();
+
+    @Test
+    public void run_ParkedGames() throws Exception
+    {
+        long baseline = usedHeap();
+
+        CountDownLatch parked = new CountDownLatch(GAME_COUNT);
+        CountDownLatch humans = new CountDownLatch(1);
+        PlacementSource source = (game, player) -> {
+            parked.countDown();
+            humans.await();
+            return null;
+        };
+
+        long start = System.nanoTime();
+        List<Future<Game>> games = new ArrayList<>(GAME_COUNT);
+        try (GameDriver driver = GameDriver.virtualThreads()) {
+            try {
+                for (int i = 0; i < GAME_COUNT; i++) {
+                    games.add(driver.run(createGame(), source));
+                }
+
+                assertThat(parked.await(1, TimeUnit.MINUTES)).as("all games parked").isTrue();
+                long startupMillis = (System.nanoTime() - start) / 1_000_000;
+
+                long perGame = Math.max(1, (usedHeap() - baseline) / GAME_COUNT);
+                long capacity = (Runtime.getRuntime().maxMemory() - baseline) / perGame;
+
+                System.out.printf("%,d games parked in %,d ms%n", GAME_COUNT, startupMillis);
+                System.out.printf("Heap per parked game: %,d bytes%n", perGame);
+                System.out.printf("Estimated games in a %,d MB heap: %,d%n",
+                                  Runtime.getRuntime().maxMemory() / (1024 * 1024),
+                                  capacity);
+
+                assertThat(perGame).as("heap per parked game").isLessThanOrEqualTo(MAX_BYTES_PER_GAME);
+            } finally {
+                humans.countDown();
+            }
+
+            for (Future<Game> game : games) {
+                assertThat(game.get(1, TimeUnit.MINUTES)).isNotNull();
+            }
+        }
+    }
+
+    private static Game createGame()
+    {
+        HashMultiset<Letter> letters = HashMultiset.create();
+        for (Letter letter : LETTERS.getLetters()) {
+            letters.add(letter, CONFIGURATION.getLetterCount(letter));
+        }
+
+        Game game = new GameImpl(new BoardImpl(CONFIGURATION.getBoardDimension(),
+                                               CONFIGURATION.getOrientations(),
+                                               CONFIGURATION.getBoardStart(),
+                                               new TileSetFactoryImpl(CONFIGURATION),
+                                               new WordFactoryImpl(),
+                                               CONFIGURATION.getDictionary(),
+                                               new ScoreCalculatorImpl(CONFIGURATION)),
+                                 new BagImpl(letters, BenchmarkPiece::new),
+                                 () -> new RackImpl(CONFIGURATION.getRackSize()),
+                                 CONFIGURATION);
+
+        for (int i = 0; i < 2; i++) {
+            PlayerImpl player = new PlayerImpl();
+            game.addPlayer(player);
+        }
+
+        return game;
+    }
+
+    private static long usedHeap() throws InterruptedException
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static class BenchmarkPiece extends AbstractPiece
+    {
+        public BenchmarkPiece(Letter letter)
+        {
+            setLetter(letter);
+        }
+
+        @Override
+        public int getValue()
+        {
+            return 1;
+        }
+
+        @Override
+        public Piece copy()
+        {
+            return copyTo(new BenchmarkPiece(null));
+        }
+    }
+
+    private record BenchmarkLetter(char character) implements Letter
+    {
+        @Override
+        public char getCharacter()
+        {
+            return character;
+        }
+    }
+
+    private static class BenchmarkLetterFactory implements LetterFactory
+    {
+        private final SequencedSet<Letter> letters = new LinkedHashSet<>();
+
+        public BenchmarkLetterFactory(String alphabet)
+        {
+            for (char c : alphabet.toCharArray()) {
+                letters.add(new BenchmarkLetter(c));
+            }
+        }
+
+        @Override
+        public Letter toLetter(char character)
+        {
+            Letter letter = new BenchmarkLetter(character);
+            if (!letters.contains(letter)) {
+                throw new InvalidCharacterException("Invalid character: " + character);
+            }
+
+            return letter;
+        }
+
+        @Override
+        public Letter toLetter(String character)
+        {
+            if (character == null || character.length() != 1) {
+                throw new IllegalArgumentException("Expected a single character");
+            }
+
+            return toLetter(character.charAt(0));
+        }
+
+        @Override
+        public List<Letter> toLetters(String word)
+        {
+            return word.chars().mapToObj(c -> toLetter((char) c)).toList();
+        }
+
+        @Override
+        public SequencedSet<Letter> getLetters()
+        {
+            return letters;
+        }
+    }
+}
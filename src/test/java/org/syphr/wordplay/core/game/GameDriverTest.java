@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.game;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Bag;
+import org.syphr.wordplay.core.component.Rack;
+import org.syphr.wordplay.core.player.Player;
+
+public class GameDriverTest implements WithAssertions
+{
+    @Test
+    public void run_AllPlayersPass() throws Exception
+    {
+        Bag bag = mock(Bag.class);
+        Rack rack = mock(Rack.class);
+        Player player = mock(Player.class);
+        when(player.getRack()).thenReturn(rack);
+
+        Game game = mock(Game.class);
+        when(game.getBag()).thenReturn(bag);
+        when(game.getPlayers()).thenReturn(Set.of(player));
+        when(game.getCurrentPlayer()).thenReturn(player);
+
+        AtomicInteger turns = new AtomicInteger();
+        try (GameDriver driver = GameDriver.virtualThreads()) {
+            Game result = driver.run(game, (g, p) -> {
+                turns.incrementAndGet();
+                return null;
+            }).get(10, TimeUnit.SECONDS);
+
+            assertThat(result).isSameAs(game);
+        }
+
+        assertThat(turns).hasValue(2);
+        verify(rack).fill(bag);
+    }
+}
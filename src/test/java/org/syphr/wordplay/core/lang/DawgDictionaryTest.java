@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class DawgDictionaryTest implements WithAssertions
+{
+    private static final List<String> WORDS = List.of("TAPS", "TOPS", "TAP", "TOP", "CAT", "CATS", "AT", "TAP");
+
+    private final DawgDictionary dictionary = DawgDictionary.of(WORDS);
+
+    @Test
+    public void isValid()
+    {
+        assertThat(dictionary.isValid("TAP")).isTrue();
+        assertThat(dictionary.isValid("CATS")).isTrue();
+        assertThat(dictionary.isValid("AT")).isTrue();
+    }
+
+    @Test
+    public void isValid_Invalid()
+    {
+        assertThat(dictionary.isValid("TA")).isFalse();
+        assertThat(dictionary.isValid("TAPSS")).isFalse();
+        assertThat(dictionary.isValid("DOG")).isFalse();
+        assertThat(dictionary.isValid("")).isFalse();
+    }
+
+    @Test
+    public void isPrefix()
+    {
+        assertThat(dictionary.isPrefix("")).isTrue();
+        assertThat(dictionary.isPrefix("T")).isTrue();
+        assertThat(dictionary.isPrefix("TO")).isTrue();
+        assertThat(dictionary.isPrefix("TOPS")).isTrue();
+        assertThat(dictionary.isPrefix("TOPSS")).isFalse();
+        assertThat(dictionary.isPrefix("X")).isFalse();
+    }
+
+    @Test
+    public void getNextCharacters()
+    {
+        assertThat(dictionary.getNextCharacters("")).containsExactly('A', 'C', 'T');
+        assertThat(dictionary.getNextCharacters("T")).containsExactly('A', 'O');
+        assertThat(dictionary.getNextCharacters("TAP")).containsExactly('S');
+        assertThat(dictionary.getNextCharacters("TAPS")).isEmpty();
+        assertThat(dictionary.getNextCharacters("X")).isEmpty();
+    }
+
+    @Test
+    public void getNextCharacters_DefaultMatches()
+    {
+        Dictionary simple = simple(Set.copyOf(WORDS));
+
+        for (String prefix : List.of("", "T", "TA", "TAP", "CAT", "X")) {
+            assertThat(dictionary.getNextCharacters(prefix)).isEqualTo(simple.getNextCharacters(prefix));
+            assertThat(dictionary.isPrefix(prefix)).isEqualTo(simple.isPrefix(prefix));
+        }
+    }
+
+    @Test
+    public void getWords()
+    {
+        assertThat(dictionary.getWords()).containsExactly("AT", "CAT", "CATS", "TAP", "TAPS", "TOP", "TOPS");
+        assertThat(dictionary.getWords()).hasSize(7).contains("TOP").doesNotContain("TO");
+    }
+
+    @Test
+    public void getWords_Empty()
+    {
+        assertThat(DawgDictionary.of(List.of()).getWords()).isEmpty();
+    }
+
+    @Test
+    public void sharedSuffixes()
+    {
+        /*
+         * A trie of these words needs 14 nodes. Sharing suffixes merges the ends of
+         * AT, CATS, TAPS and TOPS, the nodes after CAT, TAP and TOP, and the nodes
+         * after TA and TO.
+         */
+        assertThat(dictionary.getNodeCount()).isEqualTo(8);
+    }
+
+    @Test
+    public void walk()
+    {
+        int node = dictionary.walk(dictionary.getRoot(), "TOP");
+
+        assertThat(node).isNotEqualTo(WordGraph.NONE);
+        assertThat(dictionary.isTerminal(node)).isTrue();
+        assertThat(dictionary.getEdgeCount(node)).isEqualTo(1);
+        assertThat(dictionary.getEdgeCharacter(node, 0)).isEqualTo('S');
+        assertThat(dictionary.isTerminal(dictionary.getEdgeTarget(node, 0))).isTrue();
+        assertThat(dictionary.walk(dictionary.getRoot(), "TOX")).isEqualTo(WordGraph.NONE);
+    }
+
+    @Test
+    public void add_OutOfOrder()
+    {
+        AutomatonBuilder builder = new AutomatonBuilder();
+        builder.add("B");
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.add("A"));
+    }
+
+    @Test
+    public void wordGraphs_Graph()
+    {
+        assertThat(WordGraphs.of(dictionary)).isSameAs(dictionary);
+    }
+
+    @Test
+    public void wordGraphs_Dictionary()
+    {
+        Dictionary simple = simple(Set.copyOf(WORDS));
+
+        WordGraph graph = WordGraphs.of(simple);
+
+        assertThat(graph).isSameAs(WordGraphs.of(simple));
+        assertThat(graph.isTerminal(graph.walk(graph.getRoot(), "CATS"))).isTrue();
+    }
+
+    private Dictionary simple(Set<String> words)
+    {
+        return new Dictionary()
+        {
+            @Override
+            public boolean isValid(String word)
+            {
+                return words.contains(word);
+            }
+
+            @Override
+            public Set<String> getWords()
+            {
+                return words;
+            }
+        };
+    }
+}
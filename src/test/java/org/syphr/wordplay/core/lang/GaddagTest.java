@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import static org.syphr.wordplay.core.lang.Gaddag.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class GaddagTest implements WithAssertions
+{
+    private static final List<String> WORDS = List.of("CARE", "CAT", "CATS", "AT", "CAT", "", "SCAT");
+
+    private final Gaddag gaddag = Gaddag.of(WORDS);
+
+    @Test
+    public void contains()
+    {
+        assertThat(gaddag.contains("CARE")).isTrue();
+        assertThat(gaddag.contains("CAT")).isTrue();
+        assertThat(gaddag.contains("AT")).isTrue();
+        assertThat(gaddag.contains("SCAT")).isTrue();
+    }
+
+    @Test
+    public void contains_Invalid()
+    {
+        assertThat(gaddag.contains("CA")).isFalse();
+        assertThat(gaddag.contains("ATS")).isFalse();
+        assertThat(gaddag.contains("T")).isFalse();
+        assertThat(gaddag.contains("")).isFalse();
+    }
+
+    @Test
+    public void getWordCount()
+    {
+        assertThat(gaddag.getWordCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void walk_EverySplit()
+    {
+        assertThat(terminal("C" + SEPARATOR + "AT")).isTrue();
+        assertThat(terminal("AC" + SEPARATOR + "T")).isTrue();
+        assertThat(terminal("TAC" + SEPARATOR)).isTrue();
+        assertThat(terminal("A" + SEPARATOR + "T")).isTrue();
+        assertThat(terminal("AC" + SEPARATOR + "TS")).isTrue();
+        assertThat(terminal("TACS" + SEPARATOR)).isTrue();
+    }
+
+    @Test
+    public void walk_Invalid()
+    {
+        assertThat(terminal("A" + SEPARATOR + "TC")).isFalse();
+        assertThat(terminal("CA" + SEPARATOR + "T")).isFalse();
+        assertThat(terminal("AC" + SEPARATOR)).isFalse();
+        assertThat(gaddag.walk(gaddag.getRoot(), "X")).isEqualTo(WordGraph.NONE);
+    }
+
+    @Test
+    public void walk_GrowFromAnchor()
+    {
+        /*
+         * Starting from the T of CATS, grow backwards through A and C, then forwards
+         * through S.
+         */
+        int node = gaddag.walk(gaddag.getRoot(), "TAC");
+        assertThat(gaddag.isTerminal(node)).isFalse();
+
+        node = gaddag.getChild(node, SEPARATOR);
+        assertThat(gaddag.isTerminal(node)).isTrue();
+
+        node = gaddag.getChild(node, 'S');
+        assertThat(gaddag.isTerminal(node)).isTrue();
+    }
+
+    @Test
+    public void of_Minimal()
+    {
+        AutomatonBuilder builder = new AutomatonBuilder();
+        for (String sequence : sequences(List.of("AT", "CARE", "CAT", "CATS", "SCAT"))) {
+            builder.add(sequence);
+        }
+
+        assertThat(gaddag.getNodeCount()).isEqualTo(builder.build().getNodeCount());
+    }
+
+    @Test
+    public void getMemoryFootprint()
+    {
+        Gaddag larger = Gaddag.of(List.of("CARE", "CAT", "CATS", "AT", "SCAT", "TACK", "STACK", "RACK"));
+
+        assertThat(gaddag.getMemoryFootprint()).isPositive().isLessThan(larger.getMemoryFootprint());
+    }
+
+    private boolean terminal(String path)
+    {
+        int node = gaddag.walk(gaddag.getRoot(), path);
+        return node != WordGraph.NONE && gaddag.isTerminal(node);
+    }
+
+    private List<String> sequences(List<String> words)
+    {
+        List<String> sequences = new ArrayList<>();
+        for (String word : words) {
+            for (int split = 1; split <= word.length(); split++) {
+                sequences.add(new StringBuilder(word.substring(0, split)).reverse()
+                                                                         .append(SEPARATOR)
+                                                                         .append(word.substring(split))
+                                                                         .toString());
+            }
+        }
+        sequences.sort(null);
+
+        return sequences;
+    }
+}
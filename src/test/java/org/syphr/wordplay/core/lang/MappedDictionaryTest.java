@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.lang;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedDictionaryTest implements WithAssertions
+{
+    private static final List<String> WORDS = List.of("TAPS", "TOPS", "TAP", "TOP", "CAT", "CATS", "AT");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void compile_Words() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(WORDS, file);
+
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertThat(dictionary.getWords()).containsExactly("AT", "CAT", "CATS", "TAP", "TAPS", "TOP", "TOPS");
+        assertThat(dictionary.getNodeCount()).isEqualTo(DawgDictionary.of(WORDS).getNodeCount());
+    }
+
+    @Test
+    public void compile_Dictionary() throws IOException
+    {
+        Dictionary source = new Dictionary()
+        {
+            @Override
+            public boolean isValid(String word)
+            {
+                return WORDS.contains(word);
+            }
+
+            @Override
+            public Set<String> getWords()
+            {
+                return Set.copyOf(WORDS);
+            }
+        };
+
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(source, file);
+
+        assertThat(MappedDictionary.open(file).getWords()).containsExactlyInAnyOrderElementsOf(WORDS);
+    }
+
+    @Test
+    public void compile_ReplacesMappedFile() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(WORDS, file);
+        MappedDictionary original = MappedDictionary.open(file);
+
+        LexiconCompiler.compile(List.of("DOG", "DOGS"), file);
+
+        assertThat(original.getWords()).containsExactlyInAnyOrderElementsOf(WORDS);
+        assertThat(MappedDictionary.open(file).getWords()).containsExactly("DOG", "DOGS");
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    public void lookups() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(DawgDictionary.of(WORDS), file);
+
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertThat(dictionary.isValid("TOP")).isTrue();
+        assertThat(dictionary.isValid("TO")).isFalse();
+        assertThat(dictionary.isValid("DOG")).isFalse();
+        assertThat(dictionary.isPrefix("TO")).isTrue();
+        assertThat(dictionary.isPrefix("TOX")).isFalse();
+        assertThat(dictionary.getNextCharacters("T")).containsExactly('A', 'O');
+        assertThat(dictionary.getNextCharacters("CATS")).isEmpty();
+    }
+
+    @Test
+    public void open_Empty() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(List.of(), file);
+
+        MappedDictionary dictionary = MappedDictionary.open(file);
+
+        assertThat(dictionary.getWords()).isEmpty();
+        assertThat(dictionary.isPrefix("A")).isFalse();
+    }
+
+    @Test
+    public void open_NotLexicon() throws IOException
+    {
+        Path file = Files.writeString(directory.resolve("words.txt"), "CAT\nCATS\nTAP\nTAPS\nTOP\nTOPS\n");
+
+        assertThatIOException().isThrownBy(() -> MappedDictionary.open(file)).withMessageContaining("Not a lexicon");
+    }
+
+    @Test
+    public void open_UnsupportedVersion() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(WORDS, file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[7] = (byte) (LexiconFormat.VERSION + 1);
+        Files.write(file, bytes);
+
+        assertThatIOException().isThrownBy(() -> MappedDictionary.open(file)).withMessageContaining("version");
+    }
+
+    @Test
+    public void open_Truncated() throws IOException
+    {
+        Path file = directory.resolve("words.lex");
+        LexiconCompiler.compile(WORDS, file);
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatIOException().isThrownBy(() -> MappedDictionary.open(file)).withMessageContaining("Corrupt");
+    }
+}
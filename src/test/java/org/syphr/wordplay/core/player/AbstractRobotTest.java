@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.mockito.Mockito.mock;
+import static org.syphr.wordplay.core.player.RobotFixtures.board;
+import static org.syphr.wordplay.core.player.RobotFixtures.configuration;
+import static org.syphr.wordplay.core.player.RobotFixtures.pieces;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.PlacementImpl;
+import org.syphr.wordplay.core.component.RackImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class AbstractRobotTest implements WithAssertions
+{
+    @Test
+    public void getOpenLocations_MostPromisingFirst() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        AbstractRobot robot = new AbstractRobot()
+        {
+        };
+        robot.setConfiguration(configuration);
+        robot.setRack(new RackImpl(4));
+        robot.getRack().add(pieces("TSAE"));
+
+        List<Location> locations = robot.getOpenLocations(board.snapshot());
+
+        assertThat(locations).hasSize(46)
+                             .doesNotHaveDuplicates()
+                             .containsSubsequence(Location.at(2, 2), Location.at(5, 3), Location.at(6, 6));
+    }
+
+    @Test
+    public void search_InterruptedWaitingForAdmission() throws InterruptedException
+    {
+        RobotScheduler scheduler = new RobotScheduler(1, 1);
+        UUID other = UUID.randomUUID();
+        scheduler.admit(other, Long.MAX_VALUE);
+
+        AbstractRobot robot = new AbstractRobot()
+        {
+        };
+        robot.setScheduler(scheduler);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatIllegalStateException().isThrownBy(() -> robot.search(List.of(1),
+                                                                            item -> {},
+                                                                            new StrategySink(mock(RobotStrategy.class))));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+            scheduler.release(other);
+        }
+
+        assertThat(scheduler.getQueueDepth()).isZero();
+    }
+}
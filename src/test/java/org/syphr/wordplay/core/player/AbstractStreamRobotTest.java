@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.syphr.wordplay.core.player.RobotFixtures.board;
+import static org.syphr.wordplay.core.player.RobotFixtures.configuration;
+import static org.syphr.wordplay.core.player.RobotFixtures.findAllPlacements;
+import static org.syphr.wordplay.core.player.RobotFixtures.pieces;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.PlacementImpl;
+import org.syphr.wordplay.core.component.RackImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class AbstractStreamRobotTest implements WithAssertions
+{
+    @Test
+    public void getPlacement_Deadline() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        AbstractStreamRobot robot = new AbstractStreamRobot();
+        robot.setConfiguration(configuration);
+        robot.setStrategy(new HighestScoreStrategy());
+        robot.setRack(new RackImpl(4));
+        robot.getRack().add(pieces("TSAE"));
+
+        SearchResult result = robot.getPlacement(board, Duration.ofMinutes(1));
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getPlacement()).contains(robot.getPlacement(board));
+
+        assertThat(robot.getPlacement(board, Duration.ZERO).isComplete()).isFalse();
+    }
+
+    @Test
+    public void streamPlacements() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        assertThat(streamPlacements(configuration, board, "TSAE")).isNotEmpty()
+                                                                  .isEqualTo(findAllPlacements(configuration,
+                                                                                               board,
+                                                                                               "TSAE"));
+    }
+
+    @Test
+    public void streamPlacements_Wildcard() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAT")));
+
+        assertThat(streamPlacements(configuration, board, "RA*")).isNotEmpty()
+                                                                 .isEqualTo(findAllPlacements(configuration,
+                                                                                              board,
+                                                                                              "RA*"));
+    }
+
+    private Set<String> streamPlacements(Configuration configuration, Board board, String rack)
+    {
+        AbstractStreamRobot robot = new AbstractStreamRobot();
+        robot.setConfiguration(configuration);
+        robot.setRack(new RackImpl(rack.length()));
+        robot.getRack().add(pieces(rack));
+
+        return robot.streamPlacements(board).map(RobotFixtures::describe).collect(Collectors.toSet());
+    }
+}
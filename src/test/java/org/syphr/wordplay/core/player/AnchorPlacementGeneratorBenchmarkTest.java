@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.BoardImpl;
+import org.syphr.wordplay.core.component.Evaluation;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.ScoreCalculatorImpl;
+import org.syphr.wordplay.core.component.TileAttributes;
+import org.syphr.wordplay.core.component.TileSetFactoryImpl;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+import org.syphr.wordplay.core.component.WordFactoryImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.lang.DawgDictionary;
+import org.syphr.wordplay.core.player.RobotFixtures.TestLetterFactory;
+import org.syphr.wordplay.core.player.RobotFixtures.TestPiece;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+
+/**
+ * Compares generating every valid placement of a rack by growing words from
+ * anchors along a GADDAG against enumerating candidates forwards along a DAWG
+ * from every open location and validating each with the board, as the brute
+ * force robot does. Both run on one thread over the same mid-game 15x15 board.
+ * <p>
+ * The tree has no real lexicon, so a synthetic one is generated from a fixed
+ * seed. It is tagged as a benchmark, so it is not part of the default build;
+ * run it with the <code>benchmark</code> profile:
+ *
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=AnchorPlacementGeneratorBenchmarkTest
+ * </pre>
+ *
+ * Both searches must find the same placements, and the GADDAG must be at least
+ * <code>benchmark.minSpeedup</code> (default 2) times faster.
+ *
+ * @author Gregory P. Moyer
+ */
+@Tag("benchmark")
+public class AnchorPlacementGeneratorBenchmarkTest implements WithAssertions
+{
+    private static final double MIN_SPEEDUP = Double.parseDouble(System.getProperty("benchmark.minSpeedup", "2"));
+
+    private static final String ALPHABET = "ACDEILNORST";
+    private static final TestLetterFactory LETTERS = new TestLetterFactory(ALPHABET);
+
+    private static final int WORD_COUNT = 30_000;
+    private static final int TURNS = 8;
+    private static final int RACKS = 20;
+    private static final int ROUNDS = 10;
+
+    @Test
+    public void generate_FasterThanEnumerate() throws PlacementException
+    {
+        Random random = new Random(3);
+        Configuration configuration = configuration(DawgDictionary.of(words(random)));
+        Board board = board(configuration);
+        for (int i = 0; i < TURNS; i++) {
+            List<ValuedPlacement> placements = new ArrayList<>(generate(configuration, board, rack(random)));
+            if (!placements.isEmpty()) {
+                board.place(placements.stream().max(Comparator.comparingInt(ValuedPlacement::getPoints)).orElseThrow());
+            }
+        }
+        assertThat(board.getOccupancy().getCount()).as("pieces on the board").isGreaterThan(TURNS);
+
+        List<List<Piece>> racks = new ArrayList<>();
+        for (int i = 0; i < RACKS; i++) {
+            List<Piece> rack = rack(random);
+            racks.add(rack);
+
+            Set<String> generated = describe(generate(configuration, board, rack));
+            assertThat(generated).isNotEmpty().isEqualTo(describe(enumerate(configuration, board, rack)));
+        }
+
+        long gaddagNanos = time(() -> racks.forEach(rack -> generate(configuration, board, rack)));
+        long dawgNanos = time(() -> racks.forEach(rack -> enumerate(configuration, board, rack)));
+        double speedup = (double) dawgNanos / gaddagNanos;
+
+        System.out.printf("GADDAG generation: %,d us for %d racks%n", gaddagNanos / 1_000, RACKS);
+        System.out.printf("DAWG enumeration:  %,d us for %d racks%n", dawgNanos / 1_000, RACKS);
+        System.out.printf("Speedup: %.1fx%n", speedup);
+
+        assertThat(speedup).as("GADDAG speedup").isGreaterThanOrEqualTo(MIN_SPEEDUP);
+    }
+
+    private static List<ValuedPlacement> generate(Configuration configuration, Board board, List<Piece> rack)
+    {
+        List<ValuedPlacement> placements = new ArrayList<>();
+
+        AnchorPlacementGenerator generator = new AnchorPlacementGenerator(board, rack, configuration);
+        for (Location anchor : generator.getAnchors()) {
+            generator.generate(anchor, placements::add);
+        }
+
+        return placements;
+    }
+
+    /*
+     * The brute force search of AbstractRobot, without the fork/join tasks.
+     */
+    private static List<ValuedPlacement> enumerate(Configuration configuration, Board board, List<Piece> rack)
+    {
+        List<ValuedPlacement> placements = new ArrayList<>();
+
+        RackEnumerator enumerator = new RackEnumerator(board, rack, configuration);
+        Dimension dimension = board.getDimension();
+        for (int x = 0; x < dimension.width(); x++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                Set<ValuedPlacement> found = new HashSet<>();
+                enumerator.enumerate(Location.at(x, y), placement -> {
+                    if (found.contains(placement)) {
+                        return;
+                    }
+
+                    long evaluation = board.evaluate(placement);
+                    if (Evaluation.isValid(evaluation)) {
+                        ((ValuedPlacementImpl) placement).setPoints(Evaluation.getPoints(evaluation));
+                        found.add(placement);
+                        placements.add(placement);
+                    }
+                });
+            }
+        }
+
+        return placements;
+    }
+
+    /*
+     * The median time of the given search, after as many rounds again to warm up.
+     */
+    private static long time(Runnable search)
+    {
+        for (int i = 0; i < ROUNDS; i++) {
+            search.run();
+        }
+
+        long[] nanos = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(nanos);
+        return nanos[ROUNDS / 2];
+    }
+
+    private static Set<String> describe(List<ValuedPlacement> placements)
+    {
+        Set<String> descriptions = new TreeSet<>();
+        for (ValuedPlacement placement : placements) {
+            descriptions.add(RobotFixtures.describe(placement));
+        }
+
+        return descriptions;
+    }
+
+    private static Set<String> words(Random random)
+    {
+        Set<String> words = new HashSet<>();
+        while (words.size() < WORD_COUNT) {
+            char[] word = new char[2 + random.nextInt(6)];
+            for (int i = 0; i < word.length; i++) {
+                word[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+            words.add(new String(word));
+        }
+
+        return words;
+    }
+
+    private static List<Piece> rack(Random random)
+    {
+        List<Piece> rack = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            /*
+             * Pieces of the same letter are equal, so they must have the same value.
+             */
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            TestPiece piece = new TestPiece(1 + c % 3);
+            piece.setLetter(LETTERS.toLetter(c));
+            rack.add(piece);
+        }
+
+        return rack;
+    }
+
+    private static Configuration configuration(DawgDictionary dictionary)
+    {
+        return Configuration.builder()
+                            .boardDimension(Dimension.of(15, 15))
+                            .boardStart(Location.at(7, 7))
+                            .rackSize(7)
+                            .rackBonus(50)
+                            .letterFactory(LETTERS)
+                            .allLetterCount(10)
+                            .allLetterValue(1)
+                            .dictionary(dictionary)
+                            .tileAttribute(Location.at(7, 7), TileAttributes.wordMultiplier(2))
+                            .tileAttribute(Location.at(5, 5), TileAttributes.letterMultiplier(3))
+                            .tileAttribute(Location.at(9, 9), TileAttributes.letterMultiplier(2))
+                            .build();
+    }
+
+    private static Board board(Configuration configuration)
+    {
+        return new BoardImpl(configuration.getBoardDimension(),
+                             configuration.getOrientations(),
+                             configuration.getBoardStart(),
+                             new TileSetFactoryImpl(configuration),
+                             new WordFactoryImpl(),
+                             configuration.getDictionary(),
+                             new ScoreCalculatorImpl(configuration));
+    }
+}
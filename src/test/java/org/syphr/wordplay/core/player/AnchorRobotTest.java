@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.syphr.wordplay.core.player.RobotFixtures.NO_E_DICTIONARY;
+import static org.syphr.wordplay.core.player.RobotFixtures.board;
+import static org.syphr.wordplay.core.player.RobotFixtures.configuration;
+import static org.syphr.wordplay.core.player.RobotFixtures.findAllPlacements;
+import static org.syphr.wordplay.core.player.RobotFixtures.findPlacements;
+import static org.syphr.wordplay.core.player.RobotFixtures.pieces;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.PlacementImpl;
+import org.syphr.wordplay.core.component.RackImpl;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.player.RobotFixtures.CollectingStrategy;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class AnchorRobotTest implements WithAssertions
+{
+    @Test
+    public void findPlacements_EmptyBoard()
+    {
+        Configuration configuration = configuration();
+
+        assertSamePlacements(configuration, board(configuration), "CATS");
+    }
+
+    @Test
+    public void findPlacements_ExistingWord() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        assertSamePlacements(configuration, board, "TSAE");
+    }
+
+    @Test
+    public void findPlacements_ExistingWords_Wildcard() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAT")));
+        board.place(new PlacementImpl(Location.at(4, 4), Orientations.y(), pieces("EA")));
+
+        assertSamePlacements(configuration, board, "RA*");
+    }
+
+    @Test
+    public void findPlacements_DuplicateLetters() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAT")));
+
+        assertSamePlacements(configuration, board, "AAT*");
+    }
+
+    @Test
+    public void findPlacements_TwoWildcards() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAT")));
+
+        assertSamePlacements(configuration, board, "S**");
+    }
+
+    @Test
+    public void findPlacements_WildcardLetterSelected() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAT")));
+
+        AnchorRobot robot = new AnchorRobot();
+        CollectingStrategy strategy = new CollectingStrategy();
+        robot.setConfiguration(configuration);
+        robot.setStrategy(strategy);
+        robot.setRack(new RackImpl(2));
+        robot.getRack().add(pieces("**"));
+
+        robot.findPlacements(board);
+
+        assertThat(strategy.getPlacements()).isNotEmpty()
+                                            .allSatisfy(placement -> assertThat(board.isValid(placement)).isTrue())
+                                            .flatExtracting(ValuedPlacement::getPieces)
+                                            .allSatisfy(piece -> assertThat(piece.getLetter()).isPresent());
+    }
+
+    @Test
+    public void findPlacements_LoneCrossWord() throws PlacementException
+    {
+        Configuration configuration = configuration(NO_E_DICTIONARY);
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(3, 3), Orientations.x(), pieces("AT")));
+
+        String lone = Location.at(5, 3) + " " + Orientations.y() + " E ";
+
+        assertSamePlacements(configuration, board, "E");
+        assertThat(findPlacements(new AnchorRobot(), configuration, board, "E")).anyMatch(placement -> placement.startsWith(lone));
+    }
+
+    @Test
+    public void findPlacements_StrategyStopsEarly() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        AnchorRobot robot = new AnchorRobot();
+        CollectingStrategy strategy = new CollectingStrategy(1);
+        robot.setConfiguration(configuration);
+        robot.setStrategy(strategy);
+        robot.setRack(new RackImpl(4));
+        robot.getRack().add(pieces("TSAE"));
+
+        robot.findPlacements(board);
+
+        assertThat(strategy.getPlacements()).hasSize(1);
+    }
+
+    @Test
+    public void getPlacement_HighestScore() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        AnchorRobot robot = new AnchorRobot();
+        int maxPoints = findPlacements(robot, configuration, board, "TSAE").stream()
+                                                                          .mapToInt(RobotFixtures::points)
+                                                                          .max()
+                                                                          .orElseThrow();
+
+        robot.setStrategy(new HighestScoreStrategy());
+
+        assertThat(((ValuedPlacement) robot.getPlacement(board)).getPoints()).isEqualTo(maxPoints);
+    }
+
+    @Test
+    public void getPlacement_Deadline() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        AnchorRobot robot = new AnchorRobot();
+        robot.setConfiguration(configuration);
+        robot.setStrategy(new HighestScoreStrategy());
+        robot.setRack(new RackImpl(4));
+        robot.getRack().add(pieces("TSAE"));
+
+        SearchResult result = robot.getPlacement(board, Duration.ofMinutes(1));
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getPlacement()).contains(robot.getPlacement(board));
+
+        SearchResult expired = robot.getPlacement(board, Instant.now().minusSeconds(1));
+        assertThat(expired.isComplete()).isFalse();
+        assertThat(expired.getPlacement()).isEmpty();
+    }
+
+    private void assertSamePlacements(Configuration configuration, Board board, String rack)
+    {
+        AbstractRobot bruteForce = new AbstractRobot()
+        {
+        };
+        AnchorRobot anchor = new AnchorRobot();
+
+        /*
+         * Both robots prune their searches, so they are also compared to a search
+         * that does not.
+         */
+        Set<String> expected = findAllPlacements(configuration, board, rack);
+
+        assertThat(findPlacements(anchor, configuration, board, rack)).isNotEmpty().isEqualTo(expected);
+        assertThat(findPlacements(bruteForce, configuration, board, rack)).isEqualTo(expected);
+    }
+}
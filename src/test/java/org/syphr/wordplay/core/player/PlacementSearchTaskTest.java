@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class PlacementSearchTaskTest implements WithAssertions
+{
+    private static final List<Integer> ITEMS = IntStream.range(0, 100).boxed().toList();
+
+    @Test
+    public void compute_VisitsEveryItemOnce()
+    {
+        Queue<Integer> visited = new ConcurrentLinkedQueue<>();
+        StrategySink sink = new StrategySink(mock(RobotStrategy.class));
+
+        new ForkJoinPool(4).invoke(new PlacementSearchTask<>(ITEMS, 3, visited::add, sink));
+
+        assertThat(visited).containsExactlyInAnyOrderElementsOf(ITEMS);
+    }
+
+    @Test
+    public void compute_StopsWhenDone()
+    {
+        Queue<Integer> visited = new ConcurrentLinkedQueue<>();
+        StrategySink sink = new StrategySink(mock(RobotStrategy.class), Instant.now().minusSeconds(1));
+
+        new ForkJoinPool(4).invoke(new PlacementSearchTask<>(ITEMS, 3, visited::add, sink));
+
+        assertThat(visited).isEmpty();
+        assertThat(sink.isExpired()).isTrue();
+    }
+
+    @Test
+    public void search_DrainsTasksBeforeRelease()
+    {
+        RobotScheduler scheduler = new RobotScheduler(4, 1);
+        AbstractRobot robot = new AbstractRobot()
+        {
+            @Override
+            protected boolean isParallel(int itemCount)
+            {
+                return true;
+            }
+        };
+        robot.setScheduler(scheduler);
+
+        AtomicInteger running = new AtomicInteger();
+        StrategySink sink = new StrategySink(mock(RobotStrategy.class), Instant.now().plusMillis(50));
+
+        robot.search(ITEMS.subList(0, 8), item -> {
+            running.incrementAndGet();
+            try {
+                while (!sink.isDone()) {
+                    Thread.sleep(1);
+                }
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        }, sink);
+
+        assertThat(sink.isExpired()).isTrue();
+        assertThat(running.get()).isZero();
+        assertThat(scheduler.getRunningCount()).isZero();
+    }
+}
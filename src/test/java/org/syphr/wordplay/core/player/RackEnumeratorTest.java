@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.syphr.wordplay.core.player.RobotFixtures.NO_E_DICTIONARY;
+import static org.syphr.wordplay.core.player.RobotFixtures.board;
+import static org.syphr.wordplay.core.player.RobotFixtures.configuration;
+import static org.syphr.wordplay.core.player.RobotFixtures.pieces;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.PlacementException;
+import org.syphr.wordplay.core.component.PlacementImpl;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+import org.syphr.wordplay.core.space.Orientations;
+
+public class RackEnumeratorTest implements WithAssertions
+{
+    @Test
+    public void enumerate_PrunesPrefixes()
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+
+        /*
+         * On an empty board, every candidate of more than one piece must be a word,
+         * as anything else is abandoned once it cannot begin one.
+         */
+        List<String> candidates = enumerate(configuration, board, "TSAE", Location.at(3, 3), Orientations.x());
+        assertThat(candidates).containsExactlyInAnyOrder("T", "S", "A", "E",
+                                                         "AS", "AT", "TA",
+                                                         "EAT", "SAT", "SEA", "SET", "TEA",
+                                                         "EATS", "SEAT");
+    }
+
+    @Test
+    public void enumerate_ExistingPieces() throws PlacementException
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(2, 3), Orientations.x(), pieces("CAR")));
+
+        /*
+         * CART and CARS extend the existing word; nothing can be placed before it and
+         * nothing can start on it.
+         */
+        List<String> candidates = enumerate(configuration, board, "TS", Location.at(5, 3), Orientations.x());
+        assertThat(candidates).containsExactlyInAnyOrder("T", "S");
+        assertThat(enumerate(configuration, board, "TE", Location.at(1, 3), Orientations.x())).isEmpty();
+        assertThat(enumerate(configuration, board, "A", Location.at(2, 3), Orientations.x())).isEmpty();
+    }
+
+    @Test
+    public void enumerate_LonePiece() throws PlacementException
+    {
+        Configuration configuration = configuration(NO_E_DICTIONARY);
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(3, 3), Orientations.x(), pieces("AT")));
+
+        /*
+         * No word begins with E, but alone along the orientation it may still form a
+         * word across it.
+         */
+        assertThat(enumerate(configuration, board, "E", Location.at(5, 3), Orientations.y())).containsExactly("E");
+        assertThat(enumerate(configuration, board, "E", Location.at(5, 3), Orientations.x())).containsExactly("E");
+        assertThat(enumerate(configuration, board, "E", Location.at(3, 2), Orientations.y())).isEmpty();
+    }
+
+    @Test
+    public void enumerate_LoneWildcard() throws PlacementException
+    {
+        Configuration configuration = configuration(NO_E_DICTIONARY);
+        Board board = board(configuration);
+        board.place(new PlacementImpl(Location.at(3, 3), Orientations.x(), pieces("AT")));
+
+        List<String> candidates = enumerate(configuration, board, "*", Location.at(5, 3), Orientations.y());
+        assertThat(candidates).containsExactlyInAnyOrder("A", "C", "E", "R", "S", "T");
+        assertThat(enumerate(configuration, board, "*", Location.at(5, 3), Orientations.x())).containsExactly("E");
+    }
+
+    @Test
+    public void enumerate_DuplicatePieces()
+    {
+        Configuration configuration = configuration();
+        Board board = board(configuration);
+
+        List<String> candidates = enumerate(configuration, board, "AAT", Location.at(3, 3), Orientations.x());
+        assertThat(candidates).containsExactlyInAnyOrder("A", "T", "AT", "TA");
+    }
+
+    private List<String> enumerate(Configuration configuration,
+                                   Board board,
+                                   String rack,
+                                   Location start,
+                                   Orientation orientation)
+    {
+        List<String> candidates = new ArrayList<>();
+        new RackEnumerator(board, pieces(rack), configuration).enumerate(start, placement -> {
+            if (placement.getOrientation().equals(orientation)) {
+                candidates.add(letters(placement));
+            }
+        });
+
+        return candidates;
+    }
+
+    private String letters(ValuedPlacement placement)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (Piece piece : placement.getPieces()) {
+            builder.append(piece.getLetter().orElseThrow().getCharacter());
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.syphr.wordplay.core.component.AbstractPiece;
+import org.syphr.wordplay.core.component.Board;
+import org.syphr.wordplay.core.component.BoardImpl;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.RackImpl;
+import org.syphr.wordplay.core.component.ScoreCalculatorImpl;
+import org.syphr.wordplay.core.component.TileAttributes;
+import org.syphr.wordplay.core.component.TileSetFactoryImpl;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+import org.syphr.wordplay.core.component.WordFactoryImpl;
+import org.syphr.wordplay.core.config.Configuration;
+import org.syphr.wordplay.core.lang.Dictionary;
+import org.syphr.wordplay.core.lang.InvalidCharacterException;
+import org.syphr.wordplay.core.lang.Letter;
+import org.syphr.wordplay.core.lang.LetterFactory;
+import org.syphr.wordplay.core.space.Dimension;
+import org.syphr.wordplay.core.space.Location;
+import org.syphr.wordplay.core.space.Orientation;
+
+/**
+ * A small game of six letters on a seven by seven board for testing robots,
+ * along with an exhaustive search of its placements to compare them against.
+ *
+ * @author Gregory P. Moyer
+ */
+final class RobotFixtures
+{
+    static final Set<String> WORDS = Set.of("AT", "AS", "TA", "CAT", "CATS", "ACT", "ACTS", "SAT", "SET",
+                                            "SEA", "TEA", "EAT", "EATS", "RAT", "RATS", "ARC", "CAR", "CARS",
+                                            "CART", "STAR", "RATE", "RACE", "ACE", "ACES", "ERA", "ARE",
+                                            "EAR", "SEAT", "REST", "TEAR", "ART", "ARTS", "TAR", "TARS", "SCAR");
+
+    static final TestLetterFactory LETTERS = new TestLetterFactory("ACERST");
+
+    static final Dictionary DICTIONARY = dictionary(WORDS);
+
+    /**
+     * No word begins with E, so a lone E is only valid across a placement.
+     */
+    static final Dictionary NO_E_DICTIONARY = dictionary(Set.of("AT", "TA", "ATE", "TEA", "SEA", "SAT"));
+
+    private RobotFixtures()
+    {
+    }
+
+    static Set<String> findPlacements(AbstractRobot robot, Configuration configuration, Board board, String rack)
+    {
+        CollectingStrategy strategy = new CollectingStrategy();
+
+        robot.setConfiguration(configuration);
+        robot.setStrategy(strategy);
+        robot.setRack(new RackImpl(rack.length()));
+        robot.getRack().add(pieces(rack));
+
+        robot.findPlacements(board);
+
+        return strategy.getPlacements().stream().map(RobotFixtures::describe).collect(Collectors.toSet());
+    }
+
+    /*
+     * Validate and score every sequence of rack pieces, with every letter for each wildcard,
+     * at every open location along every orientation, without any pruning.
+     */
+    static Set<String> findAllPlacements(Configuration configuration, Board board, String rack)
+    {
+        Set<String> placements = new HashSet<>();
+
+        Dimension dimension = board.getDimension();
+        for (int x = 0; x < dimension.width(); x++) {
+            for (int y = 0; y < dimension.height(); y++) {
+                for (Orientation orientation : configuration.getOrientations()) {
+                    findAllPlacements(board,
+                                      Location.at(x, y),
+                                      orientation,
+                                      pieces(rack),
+                                      new ArrayList<>(),
+                                      placements);
+                }
+            }
+        }
+
+        return placements;
+    }
+
+    private static void findAllPlacements(Board board,
+                                   Location start,
+                                   Orientation orientation,
+                                   List<Piece> remaining,
+                                   List<Piece> pieces,
+                                   Set<String> placements)
+    {
+        if (!pieces.isEmpty()) {
+            ValuedPlacementImpl placement = new ValuedPlacementImpl();
+            placement.setPieces(new ArrayList<>(pieces));
+            placement.setStartLocation(start);
+            placement.setOrientation(orientation);
+
+            if (board.isValid(placement)) {
+                placement.setPoints(board.calculatePoints(placement));
+                placements.add(describe(placement));
+            }
+        }
+
+        for (int i = 0; i < remaining.size(); i++) {
+            List<Piece> rest = new ArrayList<>(remaining);
+            Piece piece = rest.remove(i);
+
+            List<Piece> choices = new ArrayList<>();
+            if (piece.isWild()) {
+                for (Letter letter : LETTERS.getLetters()) {
+                    Piece copy = piece.copy();
+                    copy.setLetter(letter);
+                    choices.add(copy);
+                }
+            } else {
+                choices.add(piece);
+            }
+
+            for (Piece choice : choices) {
+                pieces.add(choice);
+                findAllPlacements(board, start, orientation, rest, pieces, placements);
+                pieces.removeLast();
+            }
+        }
+    }
+
+    static int points(String description)
+    {
+        return Integer.parseInt(description.substring(description.lastIndexOf(' ') + 1));
+    }
+
+    static String describe(ValuedPlacement placement)
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append(placement.getStartLocation()).append(' ').append(placement.getOrientation()).append(' ');
+        for (Piece piece : placement.getPieces()) {
+            builder.append(piece.isWild() ? '*' : piece.getLetter().orElseThrow().getCharacter());
+        }
+
+        return builder.append(' ').append(placement.getPoints()).toString();
+    }
+
+    static Configuration configuration()
+    {
+        return configuration(DICTIONARY);
+    }
+
+    static Configuration configuration(Dictionary dictionary)
+    {
+        return Configuration.builder()
+                            .boardDimension(Dimension.of(7, 7))
+                            .boardStart(Location.at(3, 3))
+                            .rackSize(4)
+                            .rackBonus(10)
+                            .letterFactory(LETTERS)
+                            .allLetterCount(5)
+                            .allLetterValue(1)
+                            .dictionary(dictionary)
+                            .tileAttribute(Location.at(4, 3), TileAttributes.letterMultiplier(2))
+                            .tileAttribute(Location.at(2, 2), TileAttributes.wordMultiplier(3))
+                            .build();
+    }
+
+    static Board board(Configuration configuration)
+    {
+        return new BoardImpl(configuration.getBoardDimension(),
+                             configuration.getOrientations(),
+                             configuration.getBoardStart(),
+                             new TileSetFactoryImpl(configuration),
+                             new WordFactoryImpl(),
+                             configuration.getDictionary(),
+                             new ScoreCalculatorImpl(configuration.getRackSize(), configuration.getRackBonus()));
+    }
+
+    static List<Piece> pieces(String letters)
+    {
+        List<Piece> pieces = new ArrayList<>();
+        for (char c : letters.toCharArray()) {
+            TestPiece piece = new TestPiece(c == '*' ? 0 : 1 + c % 3);
+            if (c == '*') {
+                piece.setWild(true);
+            } else {
+                piece.setLetter(LETTERS.toLetter(c));
+            }
+
+            pieces.add(piece);
+        }
+
+        return pieces;
+    }
+
+    static Dictionary dictionary(Set<String> words)
+    {
+        return new Dictionary()
+        {
+            @Override
+            public boolean isValid(String word)
+            {
+                return words.contains(word);
+            }
+
+            @Override
+            public Set<String> getWords()
+            {
+                return words;
+            }
+        };
+    }
+
+    static class CollectingStrategy implements RobotStrategy
+    {
+        private final List<ValuedPlacement> placements = new ArrayList<>();
+        private final int limit;
+
+        public CollectingStrategy()
+        {
+            this(Integer.MAX_VALUE);
+        }
+
+        public CollectingStrategy(int limit)
+        {
+            this.limit = limit;
+        }
+
+        public List<ValuedPlacement> getPlacements()
+        {
+            return placements;
+        }
+
+        @Override
+        public void reset()
+        {
+            placements.clear();
+        }
+
+        @Override
+        public boolean accept(ValuedPlacement placement)
+        {
+            placements.add(placement);
+            return placements.size() < limit;
+        }
+
+        @Override
+        public ValuedPlacement selectPlacement()
+        {
+            return placements.isEmpty() ? null : placements.getFirst();
+        }
+    }
+
+    static class TestPiece extends AbstractPiece
+    {
+        private final int value;
+
+        public TestPiece(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public int getValue()
+        {
+            return value;
+        }
+
+        @Override
+        public Piece copy()
+        {
+            return copyTo(new TestPiece(value));
+        }
+    }
+
+    record TestLetter(char character) implements Letter
+    {
+        @Override
+        public char getCharacter()
+        {
+            return character;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.valueOf(character);
+        }
+    }
+
+    static class TestLetterFactory implements LetterFactory
+    {
+        private final SequencedSet<Letter> letters = new LinkedHashSet<>();
+
+        public TestLetterFactory(String alphabet)
+        {
+            for (char c : alphabet.toCharArray()) {
+                letters.add(new TestLetter(c));
+            }
+        }
+
+        @Override
+        public Letter toLetter(char character)
+        {
+            if (!letters.contains(new TestLetter(character))) {
+                throw new InvalidCharacterException("Invalid character: " + character);
+            }
+
+            return new TestLetter(character);
+        }
+
+        @Override
+        public Letter toLetter(String character)
+        {
+            if (character == null || character.length() != 1) {
+                throw new IllegalArgumentException("Expected a single character");
+            }
+
+            return toLetter(character.charAt(0));
+        }
+
+        @Override
+        public List<Letter> toLetters(String word)
+        {
+            return word.chars().mapToObj(c -> toLetter((char) c)).toList();
+        }
+
+        @Override
+        public SequencedSet<Letter> getLetters()
+        {
+            return letters;
+        }
+    }
+}
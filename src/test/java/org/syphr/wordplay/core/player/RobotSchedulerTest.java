@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class RobotSchedulerTest implements WithAssertions
+{
+    private final RobotScheduler scheduler = new RobotScheduler(1, 1);
+
+    @Test
+    public void constructor_InvalidMaxRunning()
+    {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RobotScheduler(1, 0));
+    }
+
+    @Test
+    public void admit() throws InterruptedException
+    {
+        UUID owner = UUID.randomUUID();
+        assertThat(scheduler.admit(owner, Long.MAX_VALUE)).isTrue();
+        assertThat(scheduler.getRunningCount()).isEqualTo(1);
+        assertThat(scheduler.getRunningOwnerCount()).isEqualTo(1);
+
+        scheduler.release(owner);
+
+        assertThat(scheduler.getRunningCount()).isZero();
+        assertThat(scheduler.getRunningOwnerCount()).isZero();
+        assertThat(scheduler.getAdmittedCount()).isEqualTo(1);
+        assertThat(scheduler.getQueueDepth()).isZero();
+    }
+
+    @Test
+    public void admit_Expired() throws InterruptedException
+    {
+        scheduler.admit(UUID.randomUUID(), Long.MAX_VALUE);
+
+        assertThat(scheduler.admit(UUID.randomUUID(), TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+        assertThat(scheduler.getExpiredCount()).isEqualTo(1);
+        assertThat(scheduler.getQueueDepth()).isZero();
+        assertThat(scheduler.getMaxQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void admit_EarliestDeadlineFirst() throws InterruptedException
+    {
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        UUID owner = UUID.randomUUID();
+        scheduler.admit(owner, Long.MAX_VALUE);
+
+        Thread relaxed = start(UUID.randomUUID(), "relaxed", Long.MAX_VALUE, admitted);
+        awaitQueueDepth(1);
+        Thread urgent = start(UUID.randomUUID(), "urgent", TimeUnit.SECONDS.toNanos(30), admitted);
+        awaitQueueDepth(2);
+
+        scheduler.release(owner);
+        relaxed.join(10_000);
+        urgent.join(10_000);
+
+        assertThat(admitted).containsExactly("urgent", "relaxed");
+    }
+
+    @Test
+    public void admit_EarliestDeadlineFirst_LongTimeout() throws InterruptedException
+    {
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        UUID owner = UUID.randomUUID();
+        scheduler.admit(owner, Long.MAX_VALUE);
+
+        Thread relaxed = start(UUID.randomUUID(), "relaxed", Long.MAX_VALUE - 1, admitted);
+        awaitQueueDepth(1);
+        Thread urgent = start(UUID.randomUUID(), "urgent", TimeUnit.SECONDS.toNanos(30), admitted);
+        awaitQueueDepth(2);
+
+        scheduler.release(owner);
+        relaxed.join(10_000);
+        urgent.join(10_000);
+
+        assertThat(admitted).containsExactly("urgent", "relaxed");
+    }
+
+    @Test
+    public void admit_FairShare() throws InterruptedException
+    {
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        UUID busy = UUID.randomUUID();
+        scheduler.admit(busy, Long.MAX_VALUE);
+
+        Thread first = start(busy, "busy", Long.MAX_VALUE, admitted);
+        awaitQueueDepth(1);
+        Thread second = start(UUID.randomUUID(), "idle", Long.MAX_VALUE, admitted);
+        awaitQueueDepth(2);
+
+        scheduler.release(busy);
+        first.join(10_000);
+        second.join(10_000);
+
+        assertThat(admitted).containsExactly("idle", "busy");
+    }
+
+    @Test
+    public void release_ForgetsOwners() throws InterruptedException
+    {
+        RobotScheduler wide = new RobotScheduler(1, 4);
+        List<UUID> owners = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        for (UUID owner : owners) {
+            wide.admit(owner, Long.MAX_VALUE);
+        }
+        wide.admit(owners.getFirst(), Long.MAX_VALUE);
+
+        assertThat(wide.getRunningOwnerCount()).isEqualTo(3);
+
+        wide.release(owners.getFirst());
+        assertThat(wide.getRunningOwnerCount()).isEqualTo(3);
+
+        for (UUID owner : owners) {
+            wide.release(owner);
+        }
+
+        assertThat(wide.getRunningCount()).isZero();
+        assertThat(wide.getRunningOwnerCount()).isZero();
+        assertThat(wide.getAdmittedCount()).isEqualTo(4);
+    }
+
+    private Thread start(UUID owner, String name, long timeoutNanos, List<String> admitted)
+    {
+        Thread thread = new Thread(() -> {
+            try {
+                if (scheduler.admit(owner, timeoutNanos)) {
+                    admitted.add(name);
+                    scheduler.release(owner);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+
+        return thread;
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException
+    {
+        for (int i = 0; i < 1000 && scheduler.getQueueDepth() < depth; i++) {
+            Thread.sleep(5);
+        }
+
+        assertThat(scheduler.getQueueDepth()).isEqualTo(depth);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+
+public class StrategySinkTest implements WithAssertions
+{
+    @Test
+    public void constructor_ResetsStrategy()
+    {
+        RobotStrategy strategy = mock(RobotStrategy.class);
+
+        new StrategySink(strategy);
+
+        verify(strategy).reset();
+    }
+
+    @Test
+    public void offer_StrategyDone()
+    {
+        RobotStrategy strategy = mock(RobotStrategy.class);
+        when(strategy.accept(any())).thenReturn(true, false);
+        StrategySink sink = new StrategySink(strategy);
+
+        assertThat(sink.offer(new ValuedPlacementImpl())).isTrue();
+        assertThat(sink.isDone()).isFalse();
+        assertThat(sink.offer(new ValuedPlacementImpl())).isFalse();
+        assertThat(sink.offer(new ValuedPlacementImpl())).isFalse();
+
+        verify(strategy, times(2)).accept(any());
+        assertThat(sink.isDone()).isTrue();
+        assertThat(sink.isExpired()).isFalse();
+    }
+
+    @Test
+    public void isDone_DeadlinePassed()
+    {
+        RobotStrategy strategy = mock(RobotStrategy.class);
+        StrategySink sink = new StrategySink(strategy, Instant.now().minusSeconds(1));
+
+        assertThat(sink.getRemainingNanos()).isZero();
+        assertThat(sink.isDone()).isTrue();
+        assertThat(sink.isExpired()).isTrue();
+        assertThat(sink.offer(new ValuedPlacementImpl())).isFalse();
+
+        verify(strategy, never()).accept(any());
+    }
+
+    @Test
+    public void isDone_DeadlinePending()
+    {
+        StrategySink sink = new StrategySink(mock(RobotStrategy.class), Instant.now().plusSeconds(60));
+
+        assertThat(sink.getRemainingNanos()).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(60));
+        assertThat(sink.isDone()).isFalse();
+        assertThat(sink.isExpired()).isFalse();
+    }
+
+    @Test
+    public void getRemainingNanos_NoDeadline()
+    {
+        assertThat(new StrategySink(mock(RobotStrategy.class)).getRemainingNanos()).isEqualTo(Long.MAX_VALUE);
+
+        StrategySink distant = new StrategySink(mock(RobotStrategy.class), Instant.MAX);
+        assertThat(distant.getRemainingNanos()).isEqualTo(Long.MAX_VALUE);
+        assertThat(distant.isDone()).isFalse();
+    }
+
+    @Test
+    public void expire()
+    {
+        RobotStrategy strategy = mock(RobotStrategy.class);
+        StrategySink sink = new StrategySink(strategy);
+
+        sink.expire();
+
+        assertThat(sink.isDone()).isTrue();
+        assertThat(sink.isExpired()).isTrue();
+        assertThat(sink.offer(new ValuedPlacementImpl())).isFalse();
+        verify(strategy, never()).accept(any());
+    }
+
+    @Test
+    public void expire_AfterStrategyDone()
+    {
+        RobotStrategy strategy = mock(RobotStrategy.class);
+        when(strategy.accept(any())).thenReturn(false);
+        StrategySink sink = new StrategySink(strategy);
+
+        sink.offer(new ValuedPlacementImpl());
+        sink.expire();
+
+        assertThat(sink.isExpired()).isFalse();
+    }
+
+    @Test
+    public void offer_Serialized() throws Exception
+    {
+        SerialStrategy strategy = new SerialStrategy();
+        StrategySink sink = new StrategySink(strategy);
+
+        int threads = 4;
+        int offers = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < offers; i++) {
+                        sink.offer(new ValuedPlacementImpl());
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(strategy.getAccepted()).isEqualTo(threads * offers);
+        assertThat(strategy.getOverlaps()).isZero();
+    }
+
+    @Test
+    public void expire_StopsConcurrentOffers() throws Exception
+    {
+        SerialStrategy strategy = new SerialStrategy();
+        StrategySink sink = new StrategySink(strategy);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = executor.submit(() -> {
+                while (sink.offer(new ValuedPlacementImpl())) {
+                    Thread.onSpinWait();
+                }
+            });
+
+            while (strategy.getAccepted() == 0) {
+                Thread.onSpinWait();
+            }
+            sink.expire();
+            int accepted = strategy.getAccepted();
+
+            future.get(10, TimeUnit.SECONDS);
+            assertThat(strategy.getAccepted()).isEqualTo(accepted);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(sink.isExpired()).isTrue();
+    }
+
+    /*
+     * Counts the placements it accepts without any synchronization of its own, so
+     * concurrent calls would lose counts, and records whenever two threads are
+     * inside it at once.
+     */
+    private static class SerialStrategy implements RobotStrategy
+    {
+        private final AtomicInteger inside = new AtomicInteger();
+        private final AtomicInteger overlaps = new AtomicInteger();
+        private volatile int accepted;
+
+        public int getAccepted()
+        {
+            return accepted;
+        }
+
+        public int getOverlaps()
+        {
+            return overlaps.get();
+        }
+
+        @Override
+        public void reset()
+        {
+            accepted = 0;
+        }
+
+        @Override
+        public boolean accept(ValuedPlacement placement)
+        {
+            if (inside.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            accepted++;
+            inside.decrementAndGet();
+
+            return true;
+        }
+
+        @Override
+        public ValuedPlacement selectPlacement()
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.player;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.syphr.wordplay.core.component.Piece;
+import org.syphr.wordplay.core.component.ValuedPlacement;
+import org.syphr.wordplay.core.component.ValuedPlacementImpl;
+import org.syphr.wordplay.core.lang.Letter;
+
+public class TopPlacementsTest implements WithAssertions
+{
+    @Test
+    public void constructor_InvalidCapacity()
+    {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopPlacements(0));
+    }
+
+    @Test
+    public void offer_KeepsBest()
+    {
+        TopPlacements top = new TopPlacements(3);
+        for (int points : new int[] { 5, 1, 9, 3, 7, 2, 8 }) {
+            top.offer(placement(points, "A"));
+        }
+
+        assertThat(top.size()).isEqualTo(3);
+        assertThat(top.getMinPoints()).isEqualTo(7);
+        assertThat(top.toList()).extracting(ValuedPlacement::getPoints).containsExactly(9, 8, 7);
+        assertThat(top.getBest().getPoints()).isEqualTo(9);
+    }
+
+    @Test
+    public void offer_RejectsWorse()
+    {
+        TopPlacements top = new TopPlacements(1);
+
+        assertThat(top.getMinPoints()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(top.offer(placement(5, "B"))).isTrue();
+        assertThat(top.offer(placement(4, "A"))).isFalse();
+        assertThat(top.offer(placement(5, "C"))).isFalse();
+
+        ValuedPlacement best = placement(5, "A");
+        assertThat(top.offer(best)).isTrue();
+        assertThat(top.getBest()).isSameAs(best);
+    }
+
+    @Test
+    public void merge()
+    {
+        TopPlacements first = new TopPlacements(2);
+        first.offer(placement(3, "A"));
+        first.offer(placement(6, "A"));
+
+        TopPlacements second = new TopPlacements(2);
+        second.offer(placement(4, "A"));
+        second.offer(placement(5, "A"));
+
+        first.merge(second);
+
+        assertThat(first.toList()).extracting(ValuedPlacement::getPoints).containsExactly(6, 5);
+    }
+
+    @Test
+    public void clear()
+    {
+        TopPlacements top = new TopPlacements(2);
+        top.offer(placement(3, "A"));
+        top.clear();
+
+        assertThat(top.isEmpty()).isTrue();
+        assertThat(top.getBest()).isNull();
+        assertThat(top.toList()).isEmpty();
+    }
+
+    private ValuedPlacement placement(int points, String letters)
+    {
+        List<Piece> pieces = new ArrayList<>();
+        for (char c : letters.toCharArray()) {
+            Letter letter = mock(Letter.class);
+            when(letter.getCharacter()).thenReturn(c);
+
+            Piece piece = mock(Piece.class);
+            when(piece.getLetter()).thenReturn(Optional.of(letter));
+
+            pieces.add(piece);
+        }
+
+        ValuedPlacementImpl placement = new ValuedPlacementImpl();
+        placement.setPieces(pieces);
+        placement.setPoints(points);
+
+        return placement;
+    }
+}
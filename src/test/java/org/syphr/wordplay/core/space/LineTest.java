@@ -121,4 +121,28 @@ public class LineTest implements WithAssertions
                   () -> assertFalse(line.contains(Location.at(2, 1, 2))),
                   () -> assertFalse(line.contains(Location.at(2, 3, 2))));
     }
+
+    @Test
+    public void contains_Descending()
+    {
+        Line line = Line.between(Location.at(4, 1, 1), Location.at(1, 1, 1));
+
+        assertAll(() -> assertThat(line).isEqualTo(Line.between(Location.at(1, 1, 1), Location.at(4, 1, 1))),
+                  () -> assertThat(line.start()).isEqualTo(Location.at(1, 1, 1)),
+                  () -> assertThat(line.end()).isEqualTo(Location.at(4, 1, 1)),
+                  () -> assertTrue(line.contains(Location.at(3, 1, 1))),
+                  () -> assertFalse(line.contains(Location.at(5, 1, 1))));
+    }
+
+    @Test
+    public void contains_NotAligned()
+    {
+        Line line = Line.between(Location.at(0, 0, 0), Location.at(2, 1, 0));
+
+        assertAll(() -> assertThat(line.start()).isEqualTo(Location.at(0, 0, 0)),
+                  () -> assertThat(line.end()).isEqualTo(Location.at(2, 1, 0)),
+                  () -> assertTrue(line.contains(Location.at(1, 1, 0))),
+                  () -> assertTrue(line.contains(Location.at(2, 1, 0))),
+                  () -> assertFalse(line.contains(Location.at(1, 0, 0))));
+    }
 }
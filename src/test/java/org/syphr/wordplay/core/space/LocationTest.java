@@ -36,6 +36,37 @@ class LocationTest implements WithAssertions
         assertThat(Location.at(1, 2, 3)).isEqualTo(new Location(1, 2, 3));
     }
 
+    @Test
+    public void at_Shared()
+    {
+        int last = Location.CACHE_SIZE - 1;
+
+        assertAll(() -> assertThat(Location.at(3, 4, 1)).isSameAs(Location.at(3, 4, 1)),
+                  () -> assertThat(Location.at(3, 4)).isSameAs(Location.at(3, 4, 0)),
+                  () -> assertThat(Location.at(last, last, last)).isSameAs(Location.at(last, last, last)));
+    }
+
+    @Test
+    public void at_NotShared()
+    {
+        int outside = Location.CACHE_SIZE;
+
+        assertAll(() -> assertThat(Location.at(-1, 4)).isNotSameAs(Location.at(-1, 4)).isEqualTo(Location.at(-1, 4)),
+                  () -> assertThat(Location.at(outside, 0)).isNotSameAs(Location.at(outside, 0))
+                                                           .isEqualTo(Location.at(outside, 0)));
+    }
+
+    @Test
+    public void equals_HashCode()
+    {
+        Location location = new Location(2, 5, 1);
+
+        assertAll(() -> assertThat(location).isEqualTo(Location.at(2, 5, 1)),
+                  () -> assertThat(location).hasSameHashCodeAs(Location.at(2, 5, 1)),
+                  () -> assertThat(location).isNotEqualTo(Location.at(5, 2, 1)),
+                  () -> assertThat(location).isNotEqualTo(Vector.of(2, 5, 1)));
+    }
+
     @Test
     public void move_Positive()
     {
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2012-2023 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.space;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class OrientationTest implements WithAssertions
+{
+    private static final Orientation DIAGONAL = new Orientation()
+    {
+        @Override
+        public Location move(Location location, int amount)
+        {
+            return Location.at(location.x() + amount, location.y() + amount, location.z());
+        }
+
+        @Override
+        public boolean contains(Distance distance)
+        {
+            return distance.x() == distance.y() && distance.z() == 0;
+        }
+    };
+
+    @Test
+    void getUnitVector_Default()
+    {
+        assertThat(DIAGONAL.getUnitVector()).isEqualTo(Vector.of(1, 1, 0));
+    }
+
+    @Test
+    void getStride_Default()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        Location location = Location.at(1, 1, 1);
+
+        assertThat(index(dimension, location) + DIAGONAL.getStride(dimension)).isEqualTo(index(dimension,
+                                                                                               DIAGONAL.move(location,
+                                                                                                             1)));
+    }
+
+    @Test
+    void getStepsToEdge_Default()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        Location location = Location.at(1, 0, 1);
+
+        assertAll(() -> assertThat(DIAGONAL.getStepsToEdge(dimension, location, 1)).isEqualTo(3),
+                  () -> assertThat(DIAGONAL.getStepsToEdge(dimension, location, -1)).isZero());
+    }
+
+    private int index(Dimension dimension, Location location)
+    {
+        return location.x() + dimension.width() * (location.y() + dimension.height() * location.z());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.space;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PackedLocationTest implements WithAssertions
+{
+    private static final List<Location> LOCATIONS = List.of(Location.at(0, 0, 0),
+                                                            Location.at(-1, 0, 0),
+                                                            Location.at(0, -1, 5),
+                                                            Location.at(14, 14, 0),
+                                                            Location.at(3, -2, -7),
+                                                            Location.at(PackedLocation.MIN,
+                                                                        PackedLocation.MAX,
+                                                                        PackedLocation.MIN),
+                                                            Location.at(PackedLocation.MAX,
+                                                                        PackedLocation.MIN,
+                                                                        PackedLocation.MAX));
+
+    @Test
+    void pack_RoundTrip()
+    {
+        for (Location location : LOCATIONS) {
+            long packed = PackedLocation.pack(location);
+
+            assertAll(() -> assertThat(PackedLocation.unpack(packed)).isEqualTo(location),
+                      () -> assertThat(PackedLocation.x(packed)).isEqualTo(location.x()),
+                      () -> assertThat(PackedLocation.y(packed)).isEqualTo(location.y()),
+                      () -> assertThat(PackedLocation.z(packed)).isEqualTo(location.z()));
+        }
+    }
+
+    @Test
+    void move()
+    {
+        long packed = PackedLocation.pack(Location.at(2, 0, 3));
+
+        long moved = PackedLocation.move(packed, -3, 1, -4);
+        long back = PackedLocation.move(packed, 0, -1, 0);
+
+        assertAll(() -> assertThat(PackedLocation.unpack(moved)).isEqualTo(Location.at(-1, 1, -1)),
+                  () -> assertThat(PackedLocation.unpack(back)).isEqualTo(Location.at(2, -1, 3)));
+    }
+
+    @Test
+    void compare_MatchesLocation()
+    {
+        for (Location a : LOCATIONS) {
+            for (Location b : LOCATIONS) {
+                int expected = Integer.signum(a.compareTo(b));
+                int result = Integer.signum(PackedLocation.compare(PackedLocation.pack(a), PackedLocation.pack(b)));
+
+                assertThat(result).as("%s %s", a, b).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void contains()
+    {
+        Dimension dimension = Dimension.of(3, 2, 1);
+
+        assertAll(() -> assertTrue(PackedLocation.contains(dimension, PackedLocation.pack(2, 1, 0))),
+                  () -> assertFalse(PackedLocation.contains(dimension, PackedLocation.pack(3, 1, 0))),
+                  () -> assertFalse(PackedLocation.contains(dimension, PackedLocation.pack(0, -1, 0))),
+                  () -> assertFalse(PackedLocation.contains(dimension, PackedLocation.pack(0, 0, 1))));
+    }
+
+    @Test
+    void distance()
+    {
+        long a = PackedLocation.pack(1, 5, 0);
+        long b = PackedLocation.pack(4, 2, 0);
+
+        assertAll(() -> assertThat(PackedLocation.distance(a, b)).isEqualTo(Distance.of(3, 3, 0)),
+                  () -> assertTrue(PackedLocation.isWithin(a, b, Distance.of(3, 3, 0))),
+                  () -> assertFalse(PackedLocation.isWithin(a, b, Distance.of(2, 3, 0))));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2012-2024 Gregory P. Moyer
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.syphr.wordplay.core.space;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+public class SegmentTest implements WithAssertions
+{
+    @Test
+    public void between()
+    {
+        Segment segment = Segment.between(Location.at(4, 1, 1), Location.at(1, 1, 1));
+
+        assertThat(segment).isEqualTo(new Segment(Location.at(4, 1, 1), -1, 0, 0, 4));
+    }
+
+    @Test
+    public void between_NotAligned()
+    {
+        assertThatThrownBy(() -> Segment.between(Location.at(0, 0), Location.at(2, 1)))
+                                                                                      .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void isAligned()
+    {
+        assertAll(() -> assertTrue(Segment.isAligned(Location.at(1, 1, 1), Location.at(1, 1, 1))),
+                  () -> assertTrue(Segment.isAligned(Location.at(1, 1, 1), Location.at(1, 7, 1))),
+                  () -> assertTrue(Segment.isAligned(Location.at(3, 3, 3), Location.at(0, 6, 3))),
+                  () -> assertFalse(Segment.isAligned(Location.at(0, 0, 0), Location.at(2, 1, 0))));
+    }
+
+    @Test
+    public void end()
+    {
+        assertThat(Segment.between(Location.at(1, 5, 2), Location.at(1, 2, 2)).end()).isEqualTo(Location.at(1, 2, 2));
+    }
+
+    @Test
+    public void point()
+    {
+        // given
+        Segment segment = Segment.between(Location.at(2, 2, 2), Location.at(2, 2, 2));
+
+        // then
+        assertAll(() -> assertThat(segment.length()).isEqualTo(1),
+                  () -> assertThat(segment.end()).isEqualTo(segment.start()),
+                  () -> assertTrue(segment.contains(Location.at(2, 2, 2))),
+                  () -> assertFalse(segment.contains(Location.at(2, 2, 3))));
+    }
+
+    @Test
+    public void contains_Descending()
+    {
+        Segment segment = Segment.between(Location.at(1, 4, 1), Location.at(1, 1, 1));
+
+        assertAll(() -> assertFalse(segment.contains(Location.at(1, 5, 1))),
+                  () -> assertTrue(segment.contains(Location.at(1, 4, 1))),
+                  () -> assertTrue(segment.contains(Location.at(1, 2, 1))),
+                  () -> assertTrue(segment.contains(Location.at(1, 1, 1))),
+                  () -> assertFalse(segment.contains(Location.at(1, 0, 1))),
+                  () -> assertFalse(segment.contains(Location.at(2, 2, 1))));
+    }
+
+    @Test
+    public void contains_AntiDiagonal()
+    {
+        Segment segment = Segment.between(Location.at(0, 3), Location.at(3, 0));
+
+        assertAll(() -> assertTrue(segment.contains(Location.at(1, 2))),
+                  () -> assertTrue(segment.contains(Location.at(3, 0))),
+                  () -> assertFalse(segment.contains(Location.at(1, 1))),
+                  () -> assertFalse(segment.contains(Location.at(4, -1))));
+    }
+
+    @Test
+    public void construct_InvalidStep()
+    {
+        assertThatThrownBy(() -> new Segment(Location.at(0, 0), 2, 0, 0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Segment(Location.at(0, 0), 0, 0, 0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Segment(Location.at(0, 0), 1, 0, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -35,6 +35,36 @@ class XOrientationTest implements WithAssertions
                                                                                                                 1)));
     }
 
+    @Test
+    void move_Packed()
+    {
+        long packed = PackedLocation.pack(Location.at(1, 1, 1));
+
+        assertThat(PackedLocation.unpack(XOrientation.instance().move(packed, -1))).isEqualTo(Location.at(0, 1, 1));
+    }
+
+    @Test
+    void getUnitVector()
+    {
+        assertThat(XOrientation.instance().getUnitVector()).isEqualTo(Vector.of(1, 0, 0));
+    }
+
+    @Test
+    void getStride()
+    {
+        assertThat(XOrientation.instance().getStride(Dimension.of(5, 4, 3))).isEqualTo(1);
+    }
+
+    @Test
+    void getStepsToEdge()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        Location location = Location.at(3, 1, 1);
+
+        assertAll(() -> assertThat(XOrientation.instance().getStepsToEdge(dimension, location, -1)).isEqualTo(3),
+                  () -> assertThat(XOrientation.instance().getStepsToEdge(dimension, location, 1)).isEqualTo(1));
+    }
+
     @Test
     void contains()
     {
@@ -35,6 +35,36 @@ class YOrientationTest implements WithAssertions
                                                                                                                 1)));
     }
 
+    @Test
+    void move_Packed()
+    {
+        long packed = PackedLocation.pack(Location.at(1, 1, 1));
+
+        assertThat(PackedLocation.unpack(YOrientation.instance().move(packed, -1))).isEqualTo(Location.at(1, 0, 1));
+    }
+
+    @Test
+    void getUnitVector()
+    {
+        assertThat(YOrientation.instance().getUnitVector()).isEqualTo(Vector.of(0, 1, 0));
+    }
+
+    @Test
+    void getStride()
+    {
+        assertThat(YOrientation.instance().getStride(Dimension.of(5, 4, 3))).isEqualTo(5);
+    }
+
+    @Test
+    void getStepsToEdge()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        Location location = Location.at(1, 3, 1);
+
+        assertAll(() -> assertThat(YOrientation.instance().getStepsToEdge(dimension, location, -1)).isEqualTo(3),
+                  () -> assertThat(YOrientation.instance().getStepsToEdge(dimension, location, 1)).isEqualTo(0));
+    }
+
     @Test
     void contains()
     {
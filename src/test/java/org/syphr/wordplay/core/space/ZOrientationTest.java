@@ -35,6 +35,36 @@ class ZOrientationTest implements WithAssertions
                                                                                                                 2)));
     }
 
+    @Test
+    void move_Packed()
+    {
+        long packed = PackedLocation.pack(Location.at(1, 1, 1));
+
+        assertThat(PackedLocation.unpack(ZOrientation.instance().move(packed, -1))).isEqualTo(Location.at(1, 1, 0));
+    }
+
+    @Test
+    void getUnitVector()
+    {
+        assertThat(ZOrientation.instance().getUnitVector()).isEqualTo(Vector.of(0, 0, 1));
+    }
+
+    @Test
+    void getStride()
+    {
+        assertThat(ZOrientation.instance().getStride(Dimension.of(5, 4, 3))).isEqualTo(20);
+    }
+
+    @Test
+    void getStepsToEdge()
+    {
+        Dimension dimension = Dimension.of(5, 4, 3);
+        Location location = Location.at(1, 1, 2);
+
+        assertAll(() -> assertThat(ZOrientation.instance().getStepsToEdge(dimension, location, -1)).isEqualTo(2),
+                  () -> assertThat(ZOrientation.instance().getStepsToEdge(dimension, location, 1)).isEqualTo(0));
+    }
+
     @Test
     void contains()
     {